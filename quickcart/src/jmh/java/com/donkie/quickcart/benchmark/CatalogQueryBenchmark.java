@@ -0,0 +1,58 @@
+package com.donkie.quickcart.benchmark;
+
+import com.donkie.quickcart.benchmark.support.CriteriaFakes;
+import com.donkie.quickcart.seller.application.service.util.ProductSpecifications;
+import com.donkie.quickcart.seller.application.service.util.ProductSpecs;
+import com.donkie.quickcart.seller.application.service.util.SearchQueries;
+import com.donkie.quickcart.shared.jpa.SeekCursor;
+import jakarta.persistence.criteria.Predicate;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Per request work done before a catalogue query reaches the database: composing the filter specification and
+ * running it to predicates, building the full text tsquery and decoding the page cursor. Predicates are built
+ * against {@link CriteriaFakes}, Hibernate's own query tree is not covered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CatalogQueryBenchmark {
+
+    private ProductSpecs productSpecs;
+    private CriteriaFakes criteria;
+    private String cursor;
+
+    @Setup
+    public void setup() {
+        List<UUID> categoryIds = Stream.generate(UUID::randomUUID).limit(50).toList();
+        productSpecs = new ProductSpecs("Nike", true, categoryIds, 4.0, 10.0, 500.0);
+        criteria = new CriteriaFakes();
+        cursor = new SeekCursor(Instant.now(), UUID.randomUUID()).encode();
+    }
+
+    @Benchmark
+    public Predicate filterPredicate() {
+        return ProductSpecifications.byFilters(productSpecs)
+                .toPredicate(criteria.root(), criteria.query(), criteria.builder());
+    }
+
+    @Benchmark
+    public String prefixTsQuery() {
+        return SearchQueries.toPrefixTsQuery("Wireless noise-cancelling headphones, over ear (2024)");
+    }
+
+    @Benchmark
+    public Optional<SeekCursor> decodeCursor() {
+        return SeekCursor.decode(cursor);
+    }
+}
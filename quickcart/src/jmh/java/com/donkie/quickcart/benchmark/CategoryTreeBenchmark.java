@@ -0,0 +1,74 @@
+package com.donkie.quickcart.benchmark;
+
+import com.donkie.quickcart.admin.application.model.CategoryTree;
+import com.donkie.quickcart.admin.domain.model.Category;
+import com.donkie.quickcart.admin.domain.model.CategoryStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Category reads: rebuilding the {@link CategoryTree} snapshot and the subtree expansion used by product filters.
+ * Successor of the former {@code GetCategoriesByStatusUseCase} hot path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryTreeBenchmark {
+
+    /**
+     * Children per node, three levels deep: 10 gives 1110 categories.
+     */
+    @Param({"10"})
+    public int fanOut;
+
+    private List<Category> categories;
+    private CategoryTree tree;
+    private List<String> filterNames;
+
+    @Setup
+    public void setup() {
+        categories = new ArrayList<>();
+        for (int r = 0; r < fanOut; r++) {
+            var root = category("root-" + r, null, 1);
+            for (int c = 0; c < fanOut; c++) {
+                var child = category("child-" + r + "-" + c, root, 2);
+                for (int l = 0; l < fanOut; l++) {
+                    category("leaf-" + r + "-" + c + "-" + l, child, 3);
+                }
+            }
+        }
+        tree = CategoryTree.build(1, "benchmark", categories);
+        filterNames = List.of("root-1", "child-2-3", "leaf-4-5-6", "root-1-missing");
+    }
+
+    @Benchmark
+    public CategoryTree build() {
+        return CategoryTree.build(1, "benchmark", categories);
+    }
+
+    @Benchmark
+    public Set<UUID> activeSubtreeIdsByNames() {
+        return tree.activeSubtreeIdsByNames(filterNames);
+    }
+
+    private Category category(String name, Category parent, int level) {
+        var category = Category.builder()
+                .categoryId(UUID.randomUUID())
+                .name(name)
+                .categoryStatus(CategoryStatus.ACTIVE)
+                .categoryLevel(level)
+                .parent(parent)
+                .child(new ArrayList<>())
+                .build();
+        categories.add(category);
+        return category;
+    }
+}
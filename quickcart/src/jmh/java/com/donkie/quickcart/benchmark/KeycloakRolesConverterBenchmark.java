@@ -0,0 +1,46 @@
+package com.donkie.quickcart.benchmark;
+
+import com.donkie.quickcart.shared.security.KeycloakRolesConverter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Role extraction done for every authenticated request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeycloakRolesConverterBenchmark {
+
+    private final KeycloakRolesConverter converter = new KeycloakRolesConverter();
+    private Jwt jwt;
+
+    @Setup
+    public void setup() {
+        jwt = Jwt.withTokenValue("benchmark")
+                .header("alg", "RS256")
+                .subject("3f2b8c3e-6f0a-4b8e-9a51-1c2d3e4f5a6b")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(300))
+                .claim("realm_access", Map.of("roles", List.of("CUSTOMER", "SELLER", "offline_access", "uma_authorization")))
+                .claim("resource_access", Map.of(
+                        "quickcart", Map.of("roles", List.of("CUSTOMER", "SELLER")),
+                        "account", Map.of("roles", List.of("manage-account", "view-profile"))))
+                .build();
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> convert() {
+        return converter.convert(jwt);
+    }
+}
@@ -0,0 +1,49 @@
+package com.donkie.quickcart.benchmark;
+
+import com.donkie.quickcart.doc.application.service.MarkdownService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Markdown rendering of the API docs pages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarkdownServiceBenchmark {
+
+    /**
+     * Number of endpoint sections in the rendered document.
+     */
+    @Param({"20"})
+    public int sections;
+
+    private final MarkdownService markdownService = new MarkdownService();
+    private String markdown;
+
+    @Setup
+    public void setup() {
+        var builder = new StringBuilder("# QuickCart API\n\n");
+        for (int i = 0; i < sections; i++) {
+            builder.append("## GET /api/v1/resources/").append(i).append("\n\n")
+                    .append("Returns the **resource** with ~~legacy~~ *current* fields, see https://quickcart.test/docs/")
+                    .append(i).append(".\n\n")
+                    .append("| Parameter | Type | Required |\n")
+                    .append("|-----------|------|----------|\n")
+                    .append("| page | int | no |\n")
+                    .append("| size | int | no |\n\n")
+                    .append("- [x] Authenticated\n- [ ] Cached\n\n")
+                    .append("```json\n{ \"success\": true, \"data\": {} }\n```\n\n");
+        }
+        markdown = builder.toString();
+    }
+
+    @Benchmark
+    public String convertToHtml() {
+        return markdownService.convertToHtml(markdown);
+    }
+}
@@ -0,0 +1,124 @@
+package com.donkie.quickcart.benchmark;
+
+import com.donkie.quickcart.benchmark.support.Fakes;
+import com.donkie.quickcart.orders.application.dto.response.OrderResponse;
+import com.donkie.quickcart.orders.application.model.ProductSnapshot;
+import com.donkie.quickcart.orders.application.model.StoreSnapshot;
+import com.donkie.quickcart.orders.application.port.ProductClient;
+import com.donkie.quickcart.orders.domain.model.Order;
+import com.donkie.quickcart.orders.domain.model.OrderItem;
+import com.donkie.quickcart.orders.domain.repository.OrderItemRepository;
+import com.donkie.quickcart.orders.domain.repository.OrderRepository;
+import com.donkie.quickcart.orders.infra.service.OrderServiceImpl;
+import com.donkie.quickcart.shared.dto.CursorPage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Order response assembly ({@code OrderServiceImpl.buildOrderResponses}) for a page of orders and for a single order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderResponseBenchmark {
+
+    @Param({"25"})
+    public int orders;
+
+    @Param({"4"})
+    public int itemsPerOrder;
+
+    private OrderServiceImpl orderService;
+    private UUID firstOrderId;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        UUID userId = UUID.randomUUID();
+        List<UUID> stores = ids(5);
+        List<UUID> variants = ids(40);
+        var productSnapshots = variants.stream().collect(Collectors.toMap(Function.identity(),
+                id -> new ProductSnapshot(UUID.randomUUID(), id, "Product", "Variant", 99.5, null)));
+        var storeSnapshots = stores.stream().collect(Collectors.toMap(Function.identity(),
+                id -> new StoreSnapshot(id, "Store", "Location", "0000000000", "store@quickcart.test", UUID.randomUUID())));
+
+        Random random = new Random(42);
+        List<Order> orderList = new ArrayList<>();
+        Map<UUID, List<OrderItem>> itemsByOrder = new HashMap<>();
+        for (int o = 0; o < orders; o++) {
+            List<OrderItem> items = new ArrayList<>();
+            for (int i = 0; i < itemsPerOrder; i++) {
+                var item = OrderItem.create(
+                        variants.get(random.nextInt(variants.size())),
+                        stores.get(random.nextInt(stores.size())),
+                        1 + random.nextInt(3),
+                        99.5);
+                item.setItemId(UUID.randomUUID());
+                items.add(item);
+            }
+            var order = Order.create("221B Baker Street", items);
+            order.setOrderId(UUID.randomUUID());
+            order.setCreatedBy(userId.toString());
+            order.setCreatedDate(Instant.now().minusSeconds(o));
+            items.forEach(item -> item.associateWith(order));
+            orderList.add(order);
+            itemsByOrder.put(order.getOrderId(), items);
+        }
+        firstOrderId = orderList.getFirst().getOrderId();
+
+        var orderRepository = Fakes.of(OrderRepository.class, Map.of(
+                "findNewestByCreatedBy", args -> orderList,
+                "findById", args -> orderList.stream().filter(o -> o.getOrderId().equals(args[0])).findFirst()));
+        var orderItemRepository = Fakes.of(OrderItemRepository.class, Map.of(
+                "findByOrder_OrderIdIn", args -> ((Collection<UUID>) args[0]).stream()
+                        .flatMap(id -> itemsByOrder.getOrDefault(id, List.of()).stream())
+                        .toList()));
+        var productClient = Fakes.of(ProductClient.class, Map.of(
+                "getProductSnapshots", args -> pick(productSnapshots, (Collection<UUID>) args[0]),
+                "getStoreSnapshots", args -> pick(storeSnapshots, (Collection<UUID>) args[0])));
+
+        // Cart helper and snapshot enricher are not on the benchmarked paths
+        orderService = new OrderServiceImpl(orderRepository, orderItemRepository, productClient, null, null);
+
+        // Visible to the benchmark threads, not only to the setup thread
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId.toString(), null, List.of()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public CursorPage<OrderResponse> myOrdersPage() {
+        return orderService.scrollMyOrders(null, orders, false);
+    }
+
+    @Benchmark
+    public OrderResponse singleOrder() {
+        return orderService.getOrder(firstOrderId);
+    }
+
+    private static List<UUID> ids(int count) {
+        return Stream.generate(UUID::randomUUID).limit(count).toList();
+    }
+
+    private static <V> Map<UUID, V> pick(Map<UUID, V> source, Collection<UUID> keys) {
+        Map<UUID, V> picked = new HashMap<>();
+        keys.forEach(key -> picked.put(key, source.get(key)));
+        return picked;
+    }
+}
@@ -0,0 +1,66 @@
+package com.donkie.quickcart.benchmark.support;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Criteria API stand-ins for running a {@code Specification} without a Hibernate session. Every call answers
+ * with a shared node, so a benchmark measures the specification's own work, not building the query tree.
+ */
+public final class CriteriaFakes {
+    private final Predicate predicate = Fakes.of(Predicate.class, Map.of());
+    private final Path<?> path;
+    private final Root<?> root;
+    private final CriteriaQuery<?> query;
+    private final CriteriaBuilder builder;
+
+    public CriteriaFakes() {
+        Path<?>[] self = new Path<?>[1];
+        path = self[0] = Fakes.of(Path.class, Map.of(
+                "get", args -> self[0],
+                "in", args -> predicate));
+
+        Join<?, ?> join = Fakes.of(Join.class, Map.of("get", args -> path));
+        root = Fakes.of(Root.class, Map.of(
+                "get", args -> path,
+                "join", args -> join));
+
+        CriteriaQuery<?>[] querySelf = new CriteriaQuery<?>[1];
+        query = querySelf[0] = Fakes.of(CriteriaQuery.class, Map.of("distinct", args -> querySelf[0]));
+
+        Function<Object[], Object> toPredicate = args -> predicate;
+        Function<Object[], Object> toExpression = args -> path;
+        builder = Fakes.of(CriteriaBuilder.class, Map.of(
+                "and", toPredicate,
+                "isTrue", toPredicate,
+                "isFalse", toPredicate,
+                "like", toPredicate,
+                "between", toPredicate,
+                "greaterThanOrEqualTo", toPredicate,
+                "lessThanOrEqualTo", toPredicate,
+                "lower", toExpression,
+                "literal", toExpression,
+                "function", toExpression));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Root<T> root() {
+        return (Root<T>) root;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> CriteriaQuery<T> query() {
+        return (CriteriaQuery<T>) query;
+    }
+
+    public CriteriaBuilder builder() {
+        return builder;
+    }
+}
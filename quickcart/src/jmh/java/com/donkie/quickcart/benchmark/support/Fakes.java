@@ -0,0 +1,31 @@
+package com.donkie.quickcart.benchmark.support;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory stand-ins for repositories and ports, so benchmarks measure the application code and not a database.
+ */
+public final class Fakes {
+
+    private Fakes() {}
+
+    /**
+     * @param answers method name to answer, any other method throws {@link UnsupportedOperationException}
+     */
+    public static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            var answer = answers.get(method.getName());
+            if (answer != null) return answer.apply(args);
+
+            return switch (method.getName()) {
+                case "toString" -> "Fake" + type.getSimpleName();
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(
+                        "Not faked: " + type.getSimpleName() + "." + method.getName());
+            };
+        }));
+    }
+}
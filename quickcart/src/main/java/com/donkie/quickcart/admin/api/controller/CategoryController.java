@@ -8,6 +8,7 @@ import com.donkie.quickcart.admin.application.service.CategoryService;
 import com.donkie.quickcart.admin.domain.model.CategoryStatus;
 import com.donkie.quickcart.shared.dto.ApiAck;
 import com.donkie.quickcart.shared.dto.ApiResponse;
+import com.donkie.quickcart.shared.http.HttpCaching;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -44,10 +45,18 @@ public class CategoryController {
         return ResponseEntity.ok(ApiResponse.success("Category Retrieved", summary));
     }
 
+    /**
+     * Answers 304 when {@code If-None-Match} carries the current ETag. The ETag is read before the catalogue,
+     * so a concurrent rebuild can only make the body newer than its tag, never older.
+     */
     @GetMapping("/public/categories")
     public ResponseEntity<ApiResponse<List<CategoryDetail>>> getCategoryCatalogue() {
+        String eTag = categoryService.getCategoryCatalogueETag();
         List<CategoryDetail> catalogue = categoryService.getCategoryCatalogue();
-        return ResponseEntity.ok(ApiResponse.success("Category Catalogue Retrieved", catalogue));
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(HttpCaching.REVALIDATE)
+                .body(ApiResponse.success("Category Catalogue Retrieved", catalogue));
     }
 
     @GetMapping("/categories")
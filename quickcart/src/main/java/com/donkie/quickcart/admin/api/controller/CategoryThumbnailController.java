@@ -3,17 +3,17 @@ package com.donkie.quickcart.admin.api.controller;
 import com.donkie.quickcart.admin.application.service.CategoryThumbnailService;
 import com.donkie.quickcart.shared.dto.ApiAck;
 import com.donkie.quickcart.shared.dto.ApiResponse;
+import com.donkie.quickcart.shared.http.HttpCaching;
 import com.donkie.quickcart.uploads.api.dto.ContentType;
-import com.donkie.quickcart.uploads.api.dto.DownloadFile;
 import com.donkie.quickcart.uploads.api.dto.S3PresignedUpload;
+import com.donkie.quickcart.uploads.api.dto.StreamedFile;
 import lombok.AllArgsConstructor;
-import org.springframework.http.CacheControl;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -48,18 +48,19 @@ public class CategoryThumbnailController {
         return ResponseEntity.ok(ApiAck.success("Thumbnail upload completed successfully"));
     }
 
+    /**
+     * @param width optional width in pixels, served from the narrowest rendition at least as wide
+     */
     @GetMapping("/public/categories/thumbnail")
-    public ResponseEntity<byte[]> downloadThumbnail(@RequestParam("id") UUID imageId) {
-        DownloadFile file = thumbnailService.getThumbnail(imageId);
+    public ResponseEntity<StreamingResponseBody> downloadThumbnail(
+            @RequestParam("id") UUID imageId,
+            @RequestParam(value = "w", required = false) Integer width,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        StreamedFile file = thumbnailService.getThumbnail(imageId, width, range, ifNoneMatch);
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(file.contentType()))
-                .cacheControl(CacheControl
-                        .maxAge(7, TimeUnit.DAYS)         // Browser cache: 7 days
-                        .sMaxAge(365, TimeUnit.DAYS)     // CDN cache: 1 year
-                        .cachePublic()
-                        .immutable())                            // Optional: treats as versioned resource
-                .body(file.bytes());
+        return file.toResponse(HttpCaching.IMMUTABLE);
     }
 
 }
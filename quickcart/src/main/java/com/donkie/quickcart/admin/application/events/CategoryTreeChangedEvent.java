@@ -0,0 +1,6 @@
+package com.donkie.quickcart.admin.application.events;
+
+import java.util.UUID;
+
+public record CategoryTreeChangedEvent(UUID categoryId) {
+}
@@ -0,0 +1,242 @@
+package com.donkie.quickcart.admin.application.model;
+
+import com.donkie.quickcart.admin.application.dto.response.CategoryDetail;
+import com.donkie.quickcart.admin.domain.model.Category;
+import com.donkie.quickcart.admin.domain.model.CategoryStatus;
+import com.donkie.quickcart.shared.http.HttpCaching;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Immutable, versioned snapshot of the whole category hierarchy.
+ * <p>
+ * Everything a read needs is precomputed at build time: the slash separated path of every node,
+ * its ancestors, its subtree and the catalogue DTO trees. A snapshot is never modified, a change
+ * to the categories produces a new snapshot with a higher version.
+ */
+public final class CategoryTree {
+    // Served from the 128px rendition once generated, the original until then
+    private static final int THUMBNAIL_WIDTH = 128;
+
+    /**
+     * @param ancestorIds      ancestors from the root down to the direct parent
+     * @param subtreeIds       the node itself and all of its descendants, regardless of status
+     * @param activeSubtreeIds the node and the descendants reachable through ACTIVE nodes only,
+     *                         empty when the node itself is not ACTIVE
+     */
+    public record Node(
+            UUID categoryId,
+            String name,
+            CategoryStatus status,
+            int level,
+            String thumbnail,
+            UUID parentId,
+            String path,
+            List<UUID> ancestorIds,
+            List<UUID> childIds,
+            Set<UUID> subtreeIds,
+            Set<UUID> activeSubtreeIds
+    ) {
+    }
+
+    private final long version;
+    private final String fingerprint;
+    private final Map<UUID, Node> nodes;
+    private final Map<String, List<Node>> nodesByName;
+    private final List<CategoryDetail> activeCatalogue;
+    private final List<CategoryDetail> fullCatalogue;
+    private final String activeCatalogueETag;
+
+    private CategoryTree(long version,
+                         String fingerprint,
+                         Map<UUID, Node> nodes,
+                         Map<String, List<Node>> nodesByName,
+                         List<CategoryDetail> activeCatalogue,
+                         List<CategoryDetail> fullCatalogue) {
+        this.version = version;
+        this.fingerprint = fingerprint;
+        this.nodes = nodes;
+        this.nodesByName = nodesByName;
+        this.activeCatalogue = activeCatalogue;
+        this.fullCatalogue = fullCatalogue;
+        this.activeCatalogueETag = HttpCaching.digestETag(activeCatalogue);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Identifies the state of the {@code category} table this snapshot was built from.
+     */
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    public Optional<Node> find(UUID categoryId) {
+        return Optional.ofNullable(nodes.get(categoryId));
+    }
+
+    /**
+     * @param name case-insensitive category name
+     * @return every node with that name, in no particular order
+     */
+    public List<Node> findByName(String name) {
+        return name == null ? List.of() : nodesByName.getOrDefault(name.toLowerCase(), List.of());
+    }
+
+    /**
+     * Expands the ACTIVE categories matching the given names to their whole ACTIVE subtree.
+     * <p>
+     * When both a category and one of its descendants are matched, the more specific descendant wins,
+     * e.g. {@code [men, shirts]} covers the shirts subtree only, not everything under men.
+     *
+     * @param names case-insensitive category names
+     * @return IDs of the matched categories and their ACTIVE descendants
+     */
+    public Set<UUID> activeSubtreeIdsByNames(Collection<String> names) {
+        var matched = names.stream()
+                .flatMap(name -> findByName(name).stream())
+                .filter(node -> node.status() == CategoryStatus.ACTIVE)
+                .toList();
+
+        Set<UUID> narrowedByDescendant = new HashSet<>();
+        matched.forEach(node -> narrowedByDescendant.addAll(node.ancestorIds()));
+
+        Set<UUID> ids = new HashSet<>();
+        matched.stream()
+                .filter(node -> !narrowedByDescendant.contains(node.categoryId()))
+                .forEach(node -> ids.addAll(node.activeSubtreeIds()));
+        return Set.copyOf(ids);
+    }
+
+    public List<CategoryDetail> activeCatalogue() {
+        return activeCatalogue;
+    }
+
+    /**
+     * Strong ETag of {@link #activeCatalogue()}, a digest of its content rather than the node local version,
+     * so every node tags the same catalogue alike and a rebuild that changes nothing keeps the tag.
+     */
+    public String activeCatalogueETag() {
+        return activeCatalogueETag;
+    }
+
+    public List<CategoryDetail> fullCatalogue() {
+        return fullCatalogue;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    // ===================== Building =====================
+
+    public static CategoryTree build(long version, String fingerprint, Collection<Category> categories) {
+        Map<UUID, List<Category>> byParent = new HashMap<>(categories.size());
+        List<Category> roots = new ArrayList<>();
+        for (Category c : categories) {
+            UUID parentId = (c.getParent() == null) ? null : c.getParent().getCategoryId();
+            byParent.computeIfAbsent(parentId, k -> new ArrayList<>()).add(c);
+            if (parentId == null) roots.add(c);
+        }
+
+        Map<UUID, Node> nodes = new HashMap<>(categories.size());
+        for (Category root : roots) {
+            indexNode(root, null, List.of(), byParent, nodes);
+        }
+
+        Map<String, List<Node>> nodesByName = new HashMap<>();
+        nodes.values().forEach(node -> nodesByName
+                .computeIfAbsent(node.name().toLowerCase(), k -> new ArrayList<>())
+                .add(node));
+        nodesByName.replaceAll((name, list) -> List.copyOf(list));
+
+        var allStatuses = EnumSet.allOf(CategoryStatus.class);
+        var activeOnly = EnumSet.of(CategoryStatus.ACTIVE);
+        List<CategoryDetail> activeCatalogue = new ArrayList<>();
+        List<CategoryDetail> fullCatalogue = new ArrayList<>();
+        for (Category root : roots) {
+            var node = nodes.get(root.getCategoryId());
+            Optional.ofNullable(buildDetail(node, nodes, activeOnly)).ifPresent(activeCatalogue::add);
+            Optional.ofNullable(buildDetail(node, nodes, allStatuses)).ifPresent(fullCatalogue::add);
+        }
+
+        return new CategoryTree(
+                version,
+                fingerprint,
+                Map.copyOf(nodes),
+                Map.copyOf(nodesByName),
+                List.copyOf(activeCatalogue),
+                List.copyOf(fullCatalogue));
+    }
+
+    /**
+     * Depth first: the path and ancestors flow down, the subtree sets are collected on the way back up.
+     */
+    private static Node indexNode(Category category,
+                                  Node parent,
+                                  List<UUID> ancestorIds,
+                                  Map<UUID, List<Category>> byParent,
+                                  Map<UUID, Node> nodes) {
+        String path = parent == null ? category.getName() : parent.path() + "/" + category.getName();
+        var children = byParent.getOrDefault(category.getCategoryId(), List.of());
+
+        List<UUID> childAncestors = new ArrayList<>(ancestorIds);
+        childAncestors.add(category.getCategoryId());
+
+        boolean active = category.getCategoryStatus() == CategoryStatus.ACTIVE;
+        Set<UUID> subtree = new HashSet<>();
+        Set<UUID> activeSubtree = new HashSet<>();
+        subtree.add(category.getCategoryId());
+        if (active) activeSubtree.add(category.getCategoryId());
+
+        // The child nodes need this node's path only, the sets are filled in after the recursion
+        var partial = new Node(category.getCategoryId(), category.getName(), category.getCategoryStatus(),
+                category.getCategoryLevel(), thumbnailOf(category), parent == null ? null : parent.categoryId(),
+                path, List.copyOf(ancestorIds), List.of(), Set.of(), Set.of());
+
+        List<UUID> childIds = new ArrayList<>(children.size());
+        for (Category child : children) {
+            var childNode = indexNode(child, partial, childAncestors, byParent, nodes);
+            childIds.add(childNode.categoryId());
+            subtree.addAll(childNode.subtreeIds());
+            if (active) activeSubtree.addAll(childNode.activeSubtreeIds());
+        }
+
+        var node = new Node(partial.categoryId(), partial.name(), partial.status(), partial.level(),
+                partial.thumbnail(), partial.parentId(), path, partial.ancestorIds(), List.copyOf(childIds),
+                Set.copyOf(subtree), Set.copyOf(activeSubtree));
+        nodes.put(node.categoryId(), node);
+        return node;
+    }
+
+    private static CategoryDetail buildDetail(Node node, Map<UUID, Node> nodes, Set<CategoryStatus> allowedStatuses) {
+        // If the node is not allowed, skip the whole branch
+        if (!allowedStatuses.contains(node.status())) return null;
+
+        List<CategoryDetail> childDetails = new ArrayList<>(node.childIds().size());
+        for (UUID childId : node.childIds()) {
+            var detail = buildDetail(nodes.get(childId), nodes, allowedStatuses);
+            if (detail != null) childDetails.add(detail);
+        }
+        return toCategoryDetail(node, List.copyOf(childDetails));
+    }
+
+    private static @NotNull CategoryDetail toCategoryDetail(Node node, List<CategoryDetail> childDetails) {
+        return new CategoryDetail(
+                node.categoryId(),
+                node.name(),
+                node.status(),
+                node.level(),
+                node.thumbnail(),
+                childDetails);
+    }
+
+    private static String thumbnailOf(Category category) {
+        return category.getThumbnail() != null
+                ? String.format("/api/v1/public/categories/thumbnail?id=%s&w=%d", category.getThumbnail().getImageId(), THUMBNAIL_WIDTH)
+                : null;
+    }
+}
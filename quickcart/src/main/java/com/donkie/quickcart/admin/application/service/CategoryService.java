@@ -8,6 +8,7 @@ import com.donkie.quickcart.admin.application.dto.response.CategorySummary;
 import com.donkie.quickcart.admin.domain.model.CategoryStatus;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 public interface CategoryService {
@@ -45,6 +46,13 @@ public interface CategoryService {
      */
     List<CategoryDetail> getCategoryCatalogue();
 
+    /**
+     * Get the ETag of the current category catalogue, without reading the database
+     *
+     * @return strong, quoted ETag that changes whenever the catalogue does
+     */
+    String getCategoryCatalogueETag();
+
     /**
      * Update the status of a category
      *
@@ -68,4 +76,12 @@ public interface CategoryService {
     CategorySnapshot getCategorySnapshot(UUID categoryId);
 
     List<CategorySummary> getCategorySummaryByName(List<String> names);
+
+    /**
+     * Resolve category names to the IDs of the matched ACTIVE categories and all their ACTIVE descendants
+     *
+     * @param names case-insensitive category names
+     * @return category IDs covering the whole subtree of every matched category
+     */
+    Set<UUID> getActiveSubtreeIdsByName(List<String> names);
 }
@@ -1,22 +1,24 @@
 package com.donkie.quickcart.admin.application.service;
 
+import com.donkie.quickcart.admin.application.events.CategoryTreeChangedEvent;
 import com.donkie.quickcart.admin.application.exception.CategoryNotFoundException;
 import com.donkie.quickcart.admin.domain.repository.CategoryRepo;
 import com.donkie.quickcart.shared.exception.QuickcartBaseException;
 import com.donkie.quickcart.shared.exception.handler.SafeExecutor;
 import com.donkie.quickcart.uploads.api.dto.ContentType;
-import com.donkie.quickcart.uploads.api.dto.DownloadFile;
 import com.donkie.quickcart.uploads.api.dto.S3PresignedDownload;
 import com.donkie.quickcart.uploads.api.dto.S3PresignedUpload;
+import com.donkie.quickcart.uploads.api.dto.StreamedFile;
+import com.donkie.quickcart.uploads.application.exception.ObjectNotFoundInS3Exception;
 import com.donkie.quickcart.uploads.application.model.UploadResult;
 import com.donkie.quickcart.uploads.application.service.ImageUploadService;
 import com.donkie.quickcart.uploads.domain.model.ImageFile;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.util.UUID;
 
 @Slf4j
@@ -26,6 +28,7 @@ public class CategoryThumbnailService {
 
     private final ImageUploadService imageUploadService;
     private final CategoryRepo categoryRepo;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Generates a presigned PUT URL for uploading a new thumbnail image.
@@ -73,6 +76,7 @@ public class CategoryThumbnailService {
         // Assign new thumbnail
         category.setThumbnail(summary.image());
         categoryRepo.save(category);
+        eventPublisher.publishEvent(new CategoryTreeChangedEvent(categoryId));
 
         log.info("Updated category thumbnail successfully for categoryId: {}", categoryId);
     }
@@ -101,11 +105,16 @@ public class CategoryThumbnailService {
         );
     }
 
-    public DownloadFile getThumbnail(UUID imageId) {
+    /**
+     * @param width       requested width in pixels, null for the original
+     * @param range       HTTP {@code Range} header, null for the whole image
+     * @param ifNoneMatch HTTP {@code If-None-Match} header, null to skip the check
+     */
+    public StreamedFile getThumbnail(UUID imageId, Integer width, String range, String ifNoneMatch) {
         try {
-            return imageUploadService.getImage(imageId);
-        } catch (IOException e) {
-            log.error("Failed to retrieve thumbnail for imageId: {} -> {}", imageId, e.getMessage(), e);
+            return imageUploadService.getImage(imageId, width, range, ifNoneMatch);
+        } catch (ObjectNotFoundInS3Exception e) {
+            log.error("Failed to retrieve thumbnail for imageId: {} -> {}", imageId, e.getMessage());
             throw new QuickcartBaseException(HttpStatus.NOT_FOUND, "Category Thumbnail not found");
         }
     }
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,4 +16,10 @@ public interface CategoryRepo extends JpaRepository<Category, UUID> {
     @Query("SELECT c FROM Category c WHERE LOWER(c.name) IN :names AND c.categoryStatus = 'ACTIVE'")
     List<Category> findActiveCategoriesByNamesLowerCase(@Param("names") List<String> names);
 
+    @Query("SELECT c FROM Category c LEFT JOIN FETCH c.parent LEFT JOIN FETCH c.thumbnail")
+    List<Category> findAllWithParentAndThumbnail();
+
+    @Query("SELECT MAX(c.lastModifiedDate) FROM Category c")
+    Instant findLatestModifiedDate();
+
 }
@@ -0,0 +1,23 @@
+package com.donkie.quickcart.admin.infra.listeners;
+
+import com.donkie.quickcart.admin.application.events.CategoryTreeChangedEvent;
+import com.donkie.quickcart.admin.infra.service.CategoryTreeIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryTreeRebuildListener {
+    private final CategoryTreeIndex categoryTreeIndex;
+
+    // Synchronous, so the caller's next read already sees the new tree
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryTreeChanged(CategoryTreeChangedEvent evt) {
+        log.debug("Category {} changed, rebuilding category tree", evt.categoryId());
+        categoryTreeIndex.rebuild();
+    }
+}
@@ -5,25 +5,27 @@ import com.donkie.quickcart.admin.application.dto.request.CategoryUpdateRequest;
 import com.donkie.quickcart.admin.application.dto.response.CategoryDetail;
 import com.donkie.quickcart.admin.application.dto.response.CategorySnapshot;
 import com.donkie.quickcart.admin.application.dto.response.CategorySummary;
+import com.donkie.quickcart.admin.application.events.CategoryTreeChangedEvent;
 import com.donkie.quickcart.admin.application.exception.CategoryLevelOutOfRangeException;
 import com.donkie.quickcart.admin.application.exception.CategoryNotFoundException;
 import com.donkie.quickcart.admin.application.exception.CyclicalCategoryMappingException;
 import com.donkie.quickcart.admin.application.exception.ParentCategoryNotFoundException;
+import com.donkie.quickcart.admin.application.model.CategoryTree;
 import com.donkie.quickcart.admin.application.service.CategoryService;
 import com.donkie.quickcart.admin.domain.model.Category;
 import com.donkie.quickcart.admin.domain.model.CategoryStatus;
 import com.donkie.quickcart.admin.domain.repository.CategoryRepo;
-import com.donkie.quickcart.admin.infra.usecases.GetCategoriesByStatusUseCase;
 import com.donkie.quickcart.admin.infra.usecases.UpdateCategoryParentUseCase;
 import lombok.AllArgsConstructor;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -31,8 +33,9 @@ import java.util.UUID;
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepo categoryRepo;
-    private final GetCategoriesByStatusUseCase getAllCategoriesByStatus;
+    private final CategoryTreeIndex categoryTreeIndex;
     private final UpdateCategoryParentUseCase updateCategoryParentUseCase;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * @throws ParentCategoryNotFoundException  if the parent category is not null is not found.
@@ -53,6 +56,7 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         Category saved = categoryRepo.save(category);
+        eventPublisher.publishEvent(new CategoryTreeChangedEvent(saved.getCategoryId()));
         return saved.getCategoryId();
     }
 
@@ -72,6 +76,7 @@ public class CategoryServiceImpl implements CategoryService {
             category.setCategoryStatus(request.categoryStatus());
         }
         Category saved = categoryRepo.save(category);
+        eventPublisher.publishEvent(new CategoryTreeChangedEvent(categoryId));
         return toCategorySummary(saved);
     }
 
@@ -85,6 +90,7 @@ public class CategoryServiceImpl implements CategoryService {
         var category = fetchCategory(categoryId);
         category.setCategoryStatus(categoryStatus);
         Category saved = categoryRepo.save(category);
+        eventPublisher.publishEvent(new CategoryTreeChangedEvent(categoryId));
         return toCategorySummary(saved);
     }
 
@@ -127,47 +133,73 @@ public class CategoryServiceImpl implements CategoryService {
     }
 
     /**
-     * @implSpec Fetches all categories in the catalog with status ACTIVE
+     * @implSpec Serves the ACTIVE catalogue from the in-memory category tree.
      */
-    @Transactional(readOnly = true)
     @Override
     public List<CategoryDetail> getCategoryCatalogue() {
-        return getAllCategoriesByStatus.execute(List.of(CategoryStatus.ACTIVE));
+        return categoryTreeIndex.current().activeCatalogue();
+    }
+
+    /**
+     * @implSpec Precomputed with the in-memory category tree.
+     */
+    @Override
+    public String getCategoryCatalogueETag() {
+        return categoryTreeIndex.current().activeCatalogueETag();
     }
 
 
     /**
-     * @implSpec Fetches all categories in the catalog with all statuses.
+     * @implSpec Serves the catalogue with all statuses from the in-memory category tree.
      */
     @Override
     public List<CategoryDetail> getCategoriesOfAllStatus() {
-        return getAllCategoriesByStatus.execute(Arrays.stream(CategoryStatus.values()).toList());
+        return categoryTreeIndex.current().fullCatalogue();
     }
 
+    /**
+     * @throws CategoryNotFoundException if the category is not found.
+     * @implSpec The path is precomputed in the in-memory category tree.
+     */
     @Override
     public CategorySnapshot getCategorySnapshot(UUID categoryId) {
-        String path = deriveCategoryPath(fetchCategory(categoryId));
-        return new CategorySnapshot(path);
+        return categoryTreeIndex.current().find(categoryId)
+                .map(node -> new CategorySnapshot(node.path()))
+                .orElseThrow(() -> new CategoryNotFoundException(HttpStatus.NOT_FOUND, "Category not found: " + categoryId));
     }
 
     @Override
     public List<CategorySummary> getCategorySummaryByName(List<String> names) {
-       names = names.stream().filter(Objects::nonNull).map(String::toLowerCase).toList();
-       var cats = categoryRepo.findActiveCategoriesByNamesLowerCase(names);
-       return cats.stream().map(this::toCategorySummary).toList();
+        var tree = categoryTreeIndex.current();
+        return names.stream()
+                .filter(Objects::nonNull)
+                .map(String::toLowerCase)
+                .distinct()
+                .flatMap(name -> tree.findByName(name).stream())
+                .filter(node -> node.status() == CategoryStatus.ACTIVE)
+                .map(this::toCategorySummary)
+                .toList();
     }
 
-    // ==================== HELPER METHODS ======================
-
-    private String deriveCategoryPath(Category category) {
-        if (category == null) return "";
-        Category parent = category.getParent();
+    /**
+     * @implSpec Resolved against the precomputed subtrees of the in-memory category tree.
+     */
+    @Override
+    public Set<UUID> getActiveSubtreeIdsByName(List<String> names) {
+        return categoryTreeIndex.current().activeSubtreeIdsByNames(
+                names.stream().filter(Objects::nonNull).toList());
+    }
 
-        if (parent == null) {
-            return category.getName();
-        }
+    // ==================== HELPER METHODS ======================
 
-        return deriveCategoryPath(parent) + "/" + category.getName();
+    private @NotNull CategorySummary toCategorySummary(CategoryTree.Node node) {
+        return new CategorySummary(
+                node.categoryId(),
+                node.name(),
+                node.status(),
+                node.level(),
+                node.thumbnail()
+        );
     }
 
     private @NotNull CategorySummary toCategorySummary(Category c) {
@@ -0,0 +1,72 @@
+package com.donkie.quickcart.admin.infra.service;
+
+import com.donkie.quickcart.admin.application.model.CategoryTree;
+import com.donkie.quickcart.admin.domain.repository.CategoryRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current {@link CategoryTree} snapshot and swaps it atomically on rebuild.
+ * <p>
+ * Rebuilds are triggered after commit of every category mutation on this node. Other nodes
+ * pick up the change through {@link #refreshIfStale()}, which compares a cheap fingerprint
+ * of the {@code category} table against the one the current snapshot was built from.
+ */
+@Slf4j
+@Service
+public class CategoryTreeIndex {
+    private final CategoryRepo categoryRepo;
+    private final TransactionTemplate transaction;
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicReference<CategoryTree> current = new AtomicReference<>();
+
+    public CategoryTreeIndex(CategoryRepo categoryRepo, PlatformTransactionManager transactionManager) {
+        this.categoryRepo = categoryRepo;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setReadOnly(true);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public CategoryTree current() {
+        var tree = current.get();
+        return tree != null ? tree : rebuild();
+    }
+
+    /**
+     * Reads the whole table in a single query and publishes the result, unless a snapshot
+     * started later has already been published.
+     * <p>
+     * The read runs in its own read-only transaction through {@link TransactionTemplate}, so it holds
+     * for the calls from {@link #current()} and {@link #refreshIfStale()} as well.
+     */
+    public CategoryTree rebuild() {
+        long version = versions.incrementAndGet();
+        var tree = transaction.execute(status ->
+                CategoryTree.build(version, fingerprint(), categoryRepo.findAllWithParentAndThumbnail()));
+
+        var published = current.accumulateAndGet(tree,
+                (existing, next) -> existing == null || next.version() > existing.version() ? next : existing);
+        log.debug("Category tree rebuilt, version: {}, categories: {}", published.version(), published.size());
+        return published;
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void refreshIfStale() {
+        var tree = current.get();
+        if (tree == null || !tree.fingerprint().equals(fingerprint())) {
+            log.info("Category table changed outside this node, rebuilding category tree");
+            rebuild();
+        }
+    }
+
+    private String fingerprint() {
+        return categoryRepo.count() + "@" + categoryRepo.findLatestModifiedDate();
+    }
+}
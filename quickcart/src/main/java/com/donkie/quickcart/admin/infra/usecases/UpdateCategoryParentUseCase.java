@@ -1,12 +1,14 @@
 package com.donkie.quickcart.admin.infra.usecases;
 
 import com.donkie.quickcart.admin.application.dto.response.CategorySummary;
+import com.donkie.quickcart.admin.application.events.CategoryTreeChangedEvent;
 import com.donkie.quickcart.admin.application.exception.CategoryLevelOutOfRangeException;
 import com.donkie.quickcart.admin.application.exception.CyclicalCategoryMappingException;
 import com.donkie.quickcart.admin.domain.model.Category;
 import com.donkie.quickcart.admin.domain.repository.CategoryRepo;
 import lombok.AllArgsConstructor;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +19,7 @@ import java.util.List;
 @AllArgsConstructor
 public class UpdateCategoryParentUseCase {
     private final CategoryRepo categoryRepo;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CategorySummary execute(Category newParent, Category category) {
@@ -33,6 +36,7 @@ public class UpdateCategoryParentUseCase {
     private @NotNull CategorySummary assignParent(Category newParent, Category category) {
         assignParentAndUpdateHierarchy(newParent, category);
         Category saved = categoryRepo.save(category);
+        eventPublisher.publishEvent(new CategoryTreeChangedEvent(saved.getCategoryId()));
         return toCategorySummary(saved);
     }
 
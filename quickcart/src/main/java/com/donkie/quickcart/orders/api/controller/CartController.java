@@ -1,6 +1,7 @@
 package com.donkie.quickcart.orders.api.controller;
 
 import com.donkie.quickcart.orders.application.dto.request.AddCartItemRequest;
+import com.donkie.quickcart.orders.application.dto.request.AddCartItemsRequest;
 import com.donkie.quickcart.orders.application.dto.response.CartResponse;
 import com.donkie.quickcart.orders.application.service.CartService;
 import com.donkie.quickcart.shared.dto.ApiAck;
@@ -29,6 +30,12 @@ public class CartController {
         return ResponseEntity.ok(ApiAck.success("Item added to cart successfully."));
     }
 
+    @PostMapping("/carts/{cartId}/items/bulk")
+    public ResponseEntity<ApiAck> addItemsToCart(@PathVariable UUID cartId, @RequestBody AddCartItemsRequest request) {
+        cartService.addItemsToCart(cartId, request);
+        return ResponseEntity.ok(ApiAck.success("Items added to cart successfully."));
+    }
+
     @DeleteMapping("/cart-items/{itemId}")
     public ResponseEntity<ApiAck> removeCartItem(UUID itemId) {
         cartService.removeCartItem(itemId);
@@ -6,6 +6,7 @@ import com.donkie.quickcart.orders.application.dto.response.OrderResponse;
 import com.donkie.quickcart.orders.application.service.OrderService;
 import com.donkie.quickcart.shared.dto.ApiAck;
 import com.donkie.quickcart.shared.dto.ApiResponse;
+import com.donkie.quickcart.shared.dto.CursorPage;
 import com.donkie.quickcart.shared.dto.PageResponse;
 import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -61,9 +62,28 @@ public class OrderController {
         return ResponseEntity.ok(PageResponse.create("Orders retrieved successfully.", orders));
     }
 
+    @GetMapping("/orders/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<OrderResponse>>> scrollMyOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        var orders = orderService.scrollMyOrders(cursor, size, withTotal);
+        return ResponseEntity.ok(ApiResponse.success("Orders retrieved successfully.", orders));
+    }
+
     @GetMapping("/orders/seller/{storeId}")
     public ResponseEntity<PageResponse<OrderItemResponse>> getOrdersForSeller(@PathVariable UUID storeId, int page, int size) {
         var orders = orderService.getOrdersForSeller(storeId, page, size);
         return ResponseEntity.ok(PageResponse.create("Orders retrieved successfully.", orders));
     }
+
+    @GetMapping("/orders/seller/{storeId}/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<OrderItemResponse>>> scrollOrdersForSeller(
+            @PathVariable UUID storeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        var orders = orderService.scrollOrdersForSeller(storeId, cursor, size, withTotal);
+        return ResponseEntity.ok(ApiResponse.success("Orders retrieved successfully.", orders));
+    }
 }
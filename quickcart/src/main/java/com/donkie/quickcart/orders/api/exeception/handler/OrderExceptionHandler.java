@@ -1,7 +1,10 @@
 package com.donkie.quickcart.orders.api.exeception.handler;
 
 import com.donkie.quickcart.orders.application.exception.CartNotFoundException;
+import com.donkie.quickcart.orders.application.exception.InvalidCartItemsException;
 import com.donkie.quickcart.orders.application.exception.OrderNotFoundException;
+import com.donkie.quickcart.orders.application.exception.OutOfStockException;
+import com.donkie.quickcart.orders.domain.exception.OrderNotCancellableException;
 import com.donkie.quickcart.shared.dto.ApiError;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -23,4 +26,22 @@ public class OrderExceptionHandler {
                 .body(ApiError.build("Failed to find the Order.", ex));
     }
 
+    @ExceptionHandler(OutOfStockException.class)
+    public ResponseEntity<ApiError> handleOutOfStock(OutOfStockException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiError.build("Failed to reserve stock for the Order.", ex));
+    }
+
+    @ExceptionHandler(OrderNotCancellableException.class)
+    public ResponseEntity<ApiError> handleOrderNotCancellable(OrderNotCancellableException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiError.build("Failed to cancel the Order.", ex));
+    }
+
+    @ExceptionHandler(InvalidCartItemsException.class)
+    public ResponseEntity<ApiError> handleInvalidCartItems(InvalidCartItemsException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiError.build("Failed to add the items to the Cart.", ex));
+    }
+
 }
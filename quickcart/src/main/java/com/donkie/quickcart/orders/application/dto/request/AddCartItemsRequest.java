@@ -0,0 +1,10 @@
+package com.donkie.quickcart.orders.application.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record AddCartItemsRequest(
+        @JsonProperty("items") List<AddCartItemRequest> items
+) {
+}
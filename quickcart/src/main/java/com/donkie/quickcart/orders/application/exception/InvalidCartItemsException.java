@@ -0,0 +1,7 @@
+package com.donkie.quickcart.orders.application.exception;
+
+public class InvalidCartItemsException extends RuntimeException {
+    public InvalidCartItemsException(String s) {
+        super(s);
+    }
+}
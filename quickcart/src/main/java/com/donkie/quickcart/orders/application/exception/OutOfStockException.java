@@ -0,0 +1,7 @@
+package com.donkie.quickcart.orders.application.exception;
+
+public class OutOfStockException extends RuntimeException {
+    public OutOfStockException(String s) {
+        super(s);
+    }
+}
@@ -0,0 +1,15 @@
+package com.donkie.quickcart.orders.application.model;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Snapshots resolved for one page of orders. A snapshot that could not be resolved in time is absent,
+ * callers render the row without it.
+ */
+public record PageSnapshots(
+        Map<UUID, ProductSnapshot> products,
+        Map<UUID, StoreSnapshot> stores,
+        Map<UUID, UserSnapshot> users
+) {
+}
@@ -1,8 +1,11 @@
 package com.donkie.quickcart.orders.application.port;
 
+import com.donkie.quickcart.orders.application.exception.OutOfStockException;
 import com.donkie.quickcart.orders.application.model.ProductSnapshot;
 import com.donkie.quickcart.orders.application.model.StoreSnapshot;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 public interface ProductClient {
@@ -10,4 +13,44 @@ public interface ProductClient {
     ProductSnapshot getProductSnapShot(UUID productVariantId);
 
     StoreSnapshot getStoreSnapshot(UUID storeId);
+
+    /**
+     * Resolves the snapshots of all the given product variants at once.
+     *
+     * @param productVariantIds product variant IDs, duplicates are ignored
+     * @return snapshots keyed by product variant ID
+     */
+    Map<UUID, ProductSnapshot> getProductSnapshots(Collection<UUID> productVariantIds);
+
+    /**
+     * Like {@link #getProductSnapshots(Collection)}, but bypasses the snapshot cache. Use where the price and
+     * availability are acted upon, such as checkout.
+     *
+     * @param productVariantIds product variant IDs, duplicates are ignored
+     * @return snapshots keyed by product variant ID
+     */
+    Map<UUID, ProductSnapshot> getCurrentProductSnapshots(Collection<UUID> productVariantIds);
+
+    /**
+     * Resolves the snapshots of all the given stores at once.
+     *
+     * @param storeIds store IDs, duplicates are ignored
+     * @return snapshots keyed by store ID
+     */
+    Map<UUID, StoreSnapshot> getStoreSnapshots(Collection<UUID> storeIds);
+
+    /**
+     * Reserves stock for order lines, all or nothing, within the caller's transaction.
+     *
+     * @param quantities quantity per product variant ID
+     * @throws OutOfStockException when any line cannot be reserved
+     */
+    void reserveStock(Map<UUID, Integer> quantities);
+
+    /**
+     * Returns the stock reserved for order lines, within the caller's transaction.
+     *
+     * @param quantities quantity per product variant ID
+     */
+    void releaseStock(Map<UUID, Integer> quantities);
 }
@@ -2,9 +2,19 @@ package com.donkie.quickcart.orders.application.port;
 
 import com.donkie.quickcart.orders.application.model.UserSnapshot;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 public interface UserClient {
 
     UserSnapshot getUserSnapShot(UUID userId);
+
+    /**
+     * Resolves the snapshots of all the given users at once.
+     *
+     * @param userIds user IDs, duplicates are ignored
+     * @return snapshots keyed by user ID
+     */
+    Map<UUID, UserSnapshot> getUserSnapshots(Collection<UUID> userIds);
 }
@@ -2,13 +2,23 @@ package com.donkie.quickcart.orders.application.service;
 
 import com.donkie.quickcart.orders.application.dto.response.CartResponse;
 import com.donkie.quickcart.orders.application.dto.request.AddCartItemRequest;
+import com.donkie.quickcart.orders.application.dto.request.AddCartItemsRequest;
 
 import java.util.UUID;
 
 public interface CartService {
 
+    /**
+     * Adds the variant to the cart, a variant already in the cart has its quantity increased instead.
+     */
     void addItemToCart(UUID cartId, AddCartItemRequest request);
 
+    /**
+     * Adds all items in one transaction, merged with existing lines like {@link #addItemToCart}.
+     * New lines are inserted as a JDBC batch.
+     */
+    void addItemsToCart(UUID cartId, AddCartItemsRequest request);
+
     void removeCartItem(UUID itemId);
 
     CartResponse getCart(UUID cartId);
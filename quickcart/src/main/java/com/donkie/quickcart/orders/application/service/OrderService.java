@@ -2,6 +2,7 @@ package com.donkie.quickcart.orders.application.service;
 
 import com.donkie.quickcart.orders.application.dto.response.OrderItemResponse;
 import com.donkie.quickcart.orders.application.dto.response.OrderResponse;
+import com.donkie.quickcart.shared.dto.CursorPage;
 import com.donkie.quickcart.shared.dto.PageContainer;
 
 import java.util.UUID;
@@ -20,7 +21,11 @@ public interface OrderService {
 
     PageContainer<OrderItemResponse> getOrdersForSeller(UUID storeId, int page, int size);
 
+    CursorPage<OrderItemResponse> scrollOrdersForSeller(UUID storeId, String cursor, int size, boolean withTotal);
+
     OrderResponse getOrder(UUID orderId);
 
     PageContainer<OrderResponse> getMyOrder(int page, int size);
+
+    CursorPage<OrderResponse> scrollMyOrders(String cursor, int size, boolean withTotal);
 }
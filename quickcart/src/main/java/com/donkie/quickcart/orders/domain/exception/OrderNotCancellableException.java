@@ -0,0 +1,7 @@
+package com.donkie.quickcart.orders.domain.exception;
+
+public class OrderNotCancellableException extends RuntimeException {
+    public OrderNotCancellableException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,6 @@
 package com.donkie.quickcart.orders.domain.model;
 
+import com.donkie.quickcart.shared.jpa.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -19,7 +20,7 @@ import java.util.UUID;
 public class CartItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "item_id", updatable = false, nullable = false)
     private UUID itemId;
 
@@ -56,6 +57,10 @@ public class CartItem {
         return cartItem;
     }
 
+    public void increaseQuantity(int quantity) {
+        this.quantity += quantity;
+    }
+
     public CartItem associateWith(Cart cart) {
         this.cart = cart;
         return this;
@@ -2,9 +2,13 @@ package com.donkie.quickcart.orders.domain.model;
 
 import com.donkie.quickcart.orders.domain.exception.EmptyOrderCreationException;
 import com.donkie.quickcart.orders.domain.exception.InvalidShippingAddressException;
+import com.donkie.quickcart.orders.domain.exception.OrderNotCancellableException;
+import com.donkie.quickcart.shared.jpa.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -23,7 +27,7 @@ import java.util.UUID;
 @Setter
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "order_id", nullable = false, updatable = false)
     private UUID orderId;
 
@@ -36,17 +40,24 @@ public class Order {
     @Column(name = "payment_id")
     private String paymentId;
 
+    // PostgreSQL ENUM type, bound as such rather than as varchar
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
     @Column(name = "payment_status", nullable = false)
     private PaymentStatus paymentStatus;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.NAMED_ENUM)
     @Column(name = "order_status", nullable = false)
     private OrderStatus orderStatus;
 
     @Column(name = "shipping_address", length = 300, nullable = false)
     private String shippingAddress;
 
+    // True while the order holds the stock reserved at checkout
+    @Column(name = "stock_reserved", nullable = false)
+    private boolean stockReserved;
+
     @CreatedBy
     @Column(name = "created_by", updatable = false, nullable = false)
     private String createdBy;
@@ -68,11 +79,13 @@ public class Order {
         var amount = items.stream().mapToDouble(i -> i.getQuantity() * i.getPricePerUnit()).sum();
 
         Order order = new Order();
+        items.forEach(item -> item.associateWith(order));
         order.setOrderItems(items);
         order.setBillAmount(amount);
         order.setPaymentStatus(PaymentStatus.PENDING);
         order.setOrderStatus(OrderStatus.CREATED);
         order.setShippingAddress(shippingAddress);
+        order.setStockReserved(true);
         return order;
     }
 
@@ -96,8 +109,20 @@ public class Order {
         this.orderStatus = OrderStatus.DELIVERED;
     }
 
-    public void cancelOrder() {
+    /**
+     * Shipped and delivered orders cannot be cancelled, cancelling twice is a no-op.
+     *
+     * @return true if the order held a stock reservation, which the caller has to release
+     */
+    public boolean cancelOrder() {
+        if (this.orderStatus == OrderStatus.CANCELLED) return false;
+        if (this.orderStatus == OrderStatus.SHIPPED || this.orderStatus == OrderStatus.DELIVERED)
+            throw new OrderNotCancellableException("Order is already " + this.orderStatus.name().toLowerCase() + ".");
+
         this.orderStatus = OrderStatus.CANCELLED;
         this.paymentStatus = PaymentStatus.REFUND_INITIATED;
+        boolean releasesStock = this.stockReserved;
+        this.stockReserved = false;
+        return releasesStock;
     }
 }
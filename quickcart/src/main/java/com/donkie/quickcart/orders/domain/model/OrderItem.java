@@ -1,11 +1,14 @@
 package com.donkie.quickcart.orders.domain.model;
 
+import com.donkie.quickcart.shared.jpa.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.CreatedBy;
+import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Entity
@@ -16,7 +19,7 @@ import java.util.UUID;
 public class OrderItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "item_id", updatable = false, nullable = false)
     private UUID itemId;
 
@@ -29,7 +32,7 @@ public class OrderItem {
     @Column(name = "quantity", nullable = false)
     private int quantity;
 
-    @Column(name = "price", nullable = false)
+    @Column(name = "price_per_unit", nullable = false)
     private double pricePerUnit;
 
     @ManyToOne
@@ -40,6 +43,10 @@ public class OrderItem {
     @Column(name = "created_by", updatable = false, nullable = false)
     private String createdBy;
 
+    @CreatedDate
+    @Column(name = "created_date", updatable = false, nullable = false)
+    private Instant createdDate;
+
     public static OrderItem create(UUID productVariantId, UUID storeId, int quantity, double pricePerUnit) {
         OrderItem item = new OrderItem();
         item.setProductVariantId(productVariantId);
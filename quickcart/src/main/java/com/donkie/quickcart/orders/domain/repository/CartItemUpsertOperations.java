@@ -0,0 +1,24 @@
+package com.donkie.quickcart.orders.domain.repository;
+
+import com.donkie.quickcart.orders.domain.model.CartItem;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Cart line upserts sent in one JDBC batch, implemented by {@link CartItemUpsertOperationsImpl}.
+ */
+public interface CartItemUpsertOperations {
+
+    /**
+     * Adds a line for each variant, or increases the quantity of the cart's existing line for it, one
+     * {@code INSERT .. ON CONFLICT} per item. The inserts select from {@code cart} so only a cart created by
+     * {@code ownerId} qualifies. Concurrent adds of the same variant merge instead of violating the unique line.
+     * <p>
+     * The items must be distinct by variant, they are written in variant ID order so concurrent adds to the same
+     * cart cannot deadlock each other.
+     *
+     * @return the number of items upserted, 0 when the cart does not exist or belongs to someone else
+     */
+    int upsertItems(UUID cartId, String ownerId, Collection<CartItem> items);
+}
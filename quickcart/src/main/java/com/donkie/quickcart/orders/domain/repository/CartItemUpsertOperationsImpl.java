@@ -0,0 +1,53 @@
+package com.donkie.quickcart.orders.domain.repository;
+
+import com.donkie.quickcart.orders.domain.model.CartItem;
+import com.donkie.quickcart.shared.jpa.TimeOrderedUuidGenerator;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.UUID;
+
+public class CartItemUpsertOperationsImpl implements CartItemUpsertOperations {
+
+    // INSERT .. SELECT is never rewritten by reWriteBatchedInserts, so every batch entry reports its own row count
+    private static final String UPSERT_SQL = """
+            INSERT INTO cart_item (item_id, cart_id, product_variant_id, store_id, quantity,
+                                   created_by, created_date, last_modified_date)
+            SELECT ?, c.cart_id, ?, ?, ?, c.created_by, now(), now()
+            FROM cart c
+            WHERE c.cart_id = ?
+              AND c.created_by = ?
+            ON CONFLICT (cart_id, product_variant_id)
+            DO UPDATE SET quantity = cart_item.quantity + EXCLUDED.quantity,
+                          last_modified_date = now()
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int upsertItems(UUID cartId, String ownerId, Collection<CartItem> items) {
+        if (items.isEmpty()) return 0;
+        var lines = items.stream().sorted(Comparator.comparing(CartItem::getProductVariantId)).toList();
+
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (var statement = connection.prepareStatement(UPSERT_SQL)) {
+                for (CartItem line : lines) {
+                    statement.setObject(1, TimeOrderedUuidGenerator.next());
+                    statement.setObject(2, line.getProductVariantId());
+                    statement.setObject(3, line.getStoreId());
+                    statement.setInt(4, line.getQuantity());
+                    statement.setObject(5, cartId);
+                    statement.setString(6, ownerId);
+                    statement.addBatch();
+                }
+                int upserted = 0;
+                for (int count : statement.executeBatch()) upserted += count;
+                return upserted;
+            }
+        });
+    }
+}
@@ -1,10 +1,16 @@
 package com.donkie.quickcart.orders.domain.repository;
 
 import com.donkie.quickcart.orders.domain.model.OrderItem;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,5 +18,30 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, UUID> {
 
     List<OrderItem> findByProductVariantId(UUID productId);
 
+    @EntityGraph(attributePaths = "order")
     Page<OrderItem> findByStoreId(UUID storeId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "order")
+    List<OrderItem> findByOrder_OrderIdIn(Collection<UUID> orderIds);
+
+    long countByStoreId(UUID storeId);
+
+    // Keyset pages, newest first (see V12 migration for the backing index)
+    @Query("""
+            SELECT i FROM OrderItem i JOIN FETCH i.order
+            WHERE i.storeId = :storeId
+            ORDER BY i.createdDate DESC, i.itemId DESC
+            """)
+    List<OrderItem> findNewestByStoreId(@Param("storeId") UUID storeId, Limit limit);
+
+    @Query("""
+            SELECT i FROM OrderItem i JOIN FETCH i.order
+            WHERE i.storeId = :storeId
+              AND (i.createdDate, i.itemId) < (:createdDate, :itemId)
+            ORDER BY i.createdDate DESC, i.itemId DESC
+            """)
+    List<OrderItem> findNewestByStoreIdBefore(@Param("storeId") UUID storeId,
+                                              @Param("createdDate") Instant createdDate,
+                                              @Param("itemId") UUID itemId,
+                                              Limit limit);
 }
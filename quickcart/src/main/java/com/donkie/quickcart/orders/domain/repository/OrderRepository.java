@@ -1,13 +1,39 @@
 package com.donkie.quickcart.orders.domain.repository;
 
 import com.donkie.quickcart.orders.domain.model.Order;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 public interface OrderRepository extends JpaRepository<Order, UUID> {
 
     Page<Order> findAllByCreatedBy(String string, Pageable pageable);
+
+    long countByCreatedBy(String createdBy);
+
+    // Keyset pages, newest first (see V12 migration for the backing index)
+    @Query("""
+            SELECT o FROM Order o
+            WHERE o.createdBy = :createdBy
+            ORDER BY o.createdDate DESC, o.orderId DESC
+            """)
+    List<Order> findNewestByCreatedBy(@Param("createdBy") String createdBy, Limit limit);
+
+    @Query("""
+            SELECT o FROM Order o
+            WHERE o.createdBy = :createdBy
+              AND (o.createdDate, o.orderId) < (:createdDate, :orderId)
+            ORDER BY o.createdDate DESC, o.orderId DESC
+            """)
+    List<Order> findNewestByCreatedByBefore(@Param("createdBy") String createdBy,
+                                            @Param("createdDate") Instant createdDate,
+                                            @Param("orderId") UUID orderId,
+                                            Limit limit);
 }
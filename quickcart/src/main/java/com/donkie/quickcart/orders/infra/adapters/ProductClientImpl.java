@@ -2,21 +2,75 @@ package com.donkie.quickcart.orders.infra.adapters;
 
 import com.donkie.quickcart.orders.application.model.ProductSnapshot;
 import com.donkie.quickcart.orders.application.model.StoreSnapshot;
+import com.donkie.quickcart.orders.application.exception.OutOfStockException;
 import com.donkie.quickcart.orders.application.port.ProductClient;
+import com.donkie.quickcart.seller.application.exception.InsufficientStockException;
+import com.donkie.quickcart.seller.application.service.contracts.InventoryService;
 import com.donkie.quickcart.seller.application.service.contracts.ResourceSnapService;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
 public class ProductClientImpl implements ProductClient {
     private final ResourceSnapService resourceSnapService;
+    private final InventoryService inventoryService;
 
     @Override
     public ProductSnapshot getProductSnapShot(UUID productVariantId) {
-        var snap = resourceSnapService.getProductVariantSnapshot(productVariantId);
+        return toProductSnapshot(resourceSnapService.getProductVariantSnapshot(productVariantId));
+    }
+
+    @Override
+    public StoreSnapshot getStoreSnapshot(UUID storeId) {
+        return toStoreSnapshot(resourceSnapService.getStoreSnapshot(storeId));
+    }
+
+    @Override
+    public Map<UUID, ProductSnapshot> getProductSnapshots(Collection<UUID> productVariantIds) {
+        if (productVariantIds.isEmpty()) return Map.of();
+        return resourceSnapService.getProductVariantSnapshots(productVariantIds).stream()
+                .map(this::toProductSnapshot)
+                .collect(Collectors.toMap(ProductSnapshot::variantId, Function.identity()));
+    }
+
+    @Override
+    public Map<UUID, ProductSnapshot> getCurrentProductSnapshots(Collection<UUID> productVariantIds) {
+        if (productVariantIds.isEmpty()) return Map.of();
+        return resourceSnapService.getCurrentProductVariantSnapshots(productVariantIds).stream()
+                .map(this::toProductSnapshot)
+                .collect(Collectors.toMap(ProductSnapshot::variantId, Function.identity()));
+    }
+
+    @Override
+    public Map<UUID, StoreSnapshot> getStoreSnapshots(Collection<UUID> storeIds) {
+        if (storeIds.isEmpty()) return Map.of();
+        return resourceSnapService.getStoreSnapshots(storeIds).stream()
+                .map(this::toStoreSnapshot)
+                .collect(Collectors.toMap(StoreSnapshot::storeId, Function.identity()));
+    }
+
+    @Override
+    public void reserveStock(Map<UUID, Integer> quantities) {
+        try {
+            inventoryService.reserveStock(quantities);
+        } catch (InsufficientStockException e) {
+            throw new OutOfStockException("Out of stock: " + e.getVariantIds());
+        }
+    }
+
+    @Override
+    public void releaseStock(Map<UUID, Integer> quantities) {
+        inventoryService.releaseStock(quantities);
+    }
+
+    private ProductSnapshot toProductSnapshot(com.donkie.quickcart.seller.adapters.dto.ProductSnapshot snap) {
         return new ProductSnapshot(
                 snap.productId(),
                 snap.variantId(),
@@ -27,9 +81,7 @@ public class ProductClientImpl implements ProductClient {
         );
     }
 
-    @Override
-    public StoreSnapshot getStoreSnapshot(UUID storeId) {
-        var snap = resourceSnapService.getStoreSnapshot(storeId);
+    private StoreSnapshot toStoreSnapshot(com.donkie.quickcart.seller.adapters.dto.StoreSnapshot snap) {
         return new StoreSnapshot(
                 snap.storeId(),
                 snap.name(),
@@ -6,7 +6,11 @@ import com.donkie.quickcart.user.application.service.UserSnapService;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
@@ -15,7 +19,18 @@ public class UserClientImpl implements UserClient {
 
     @Override
     public UserSnapshot getUserSnapShot(UUID userId) {
-        var snap = userSnapService.getUserSnapshot(userId);
+        return toUserSnapshot(userSnapService.getUserSnapshot(userId));
+    }
+
+    @Override
+    public Map<UUID, UserSnapshot> getUserSnapshots(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) return Map.of();
+        return userSnapService.getUserSnapshots(userIds).stream()
+                .map(this::toUserSnapshot)
+                .collect(Collectors.toMap(UserSnapshot::userId, Function.identity()));
+    }
+
+    private UserSnapshot toUserSnapshot(com.donkie.quickcart.user.adapters.dto.UserSnapshot snap) {
         return new UserSnapshot(
                 snap.userId(),
                 snap.firstName(),
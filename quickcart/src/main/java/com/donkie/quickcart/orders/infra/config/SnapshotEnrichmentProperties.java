@@ -0,0 +1,25 @@
+package com.donkie.quickcart.orders.infra.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.orders.enrichment")
+@Getter
+@Setter
+public class SnapshotEnrichmentProperties {
+    /**
+     * Upper bound for a single snapshot call, batch or per ID.
+     */
+    private Duration callTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Snapshot calls in flight at once per page, shared by the product, store and user lookups. Each call may
+     * hold a DB connection or an HTTP connection.
+     */
+    private int maxConcurrency = 4;
+}
@@ -1,24 +1,36 @@
 package com.donkie.quickcart.orders.infra.service;
 
 import com.donkie.quickcart.orders.application.dto.request.AddCartItemRequest;
+import com.donkie.quickcart.orders.application.dto.request.AddCartItemsRequest;
 import com.donkie.quickcart.orders.application.dto.response.CartResponse;
+import com.donkie.quickcart.orders.application.exception.CartNotFoundException;
+import com.donkie.quickcart.orders.application.exception.InvalidCartItemsException;
 import com.donkie.quickcart.orders.application.port.ProductClient;
 import com.donkie.quickcart.orders.application.service.CartService;
 import com.donkie.quickcart.orders.domain.model.Cart;
 import com.donkie.quickcart.orders.domain.model.CartItem;
 import com.donkie.quickcart.orders.domain.repository.CartItemRepository;
 import com.donkie.quickcart.orders.domain.repository.CartRepository;
+import com.donkie.quickcart.shared.security.util.CurrentUser;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static com.donkie.quickcart.shared.security.util.OwnershipEvaluator.ensureOwnership;
 
 @Service
 @AllArgsConstructor
 public class CartServiceImpl implements CartService {
+    // Bounds the batch a single request can insert
+    private static final int MAX_ITEMS_PER_REQUEST = 100;
+
     private final CartRepository cartRepository;
     private final CartItemRepository itemRepository;
     private final ProductClient productClient;
@@ -27,15 +39,32 @@ public class CartServiceImpl implements CartService {
     @Transactional
     @Override
     public void addItemToCart(UUID cartId, AddCartItemRequest request) {
-        var cart = cartServiceHelper.getCartIfOwner(cartId);
+        ensurePositiveQuantity(request);
+        upsertItems(cartId, List.of(CartItem.create(request.productVariantId(), request.storeId(), request.quantity())));
+    }
 
-        var item = CartItem.create(
-                        request.productVariantId(),
-                        request.storeId(),
-                        request.quantity())
-                .associateWith(cart);
+    @Transactional
+    @Override
+    public void addItemsToCart(UUID cartId, AddCartItemsRequest request) {
+        var requested = request.items();
+        if (requested == null || requested.isEmpty())
+            throw new InvalidCartItemsException("Cart items cannot be empty.");
+        if (requested.size() > MAX_ITEMS_PER_REQUEST)
+            throw new InvalidCartItemsException("At most " + MAX_ITEMS_PER_REQUEST + " items can be added at once.");
+
+        requested.forEach(this::ensurePositiveQuantity);
 
-        itemRepository.save(item);
+        // Repeats within the request are merged first, one statement cannot upsert the same line twice
+        Map<UUID, CartItem> lines = new LinkedHashMap<>();
+        for (AddCartItemRequest item : requested) {
+            lines.merge(item.productVariantId(),
+                    CartItem.create(item.productVariantId(), item.storeId(), item.quantity()),
+                    (line, repeat) -> {
+                        line.increaseQuantity(repeat.getQuantity());
+                        return line;
+                    });
+        }
+        upsertItems(cartId, lines.values());
     }
 
     @Transactional
@@ -53,11 +82,15 @@ public class CartServiceImpl implements CartService {
 
         var builder = CartResponse.builder(cart.getCartId());
 
-        cart.getCartItems().forEach(item -> {
-            var productId = item.getProductVariantId();
-            var productSnapshot = productClient.getProductSnapShot(productId);
-            builder.addItem(item.getItemId(), item.getQuantity(), productSnapshot);
-        });
+        var variantIds = cart.getCartItems().stream()
+                .map(CartItem::getProductVariantId)
+                .collect(Collectors.toSet());
+        var productSnapshots = productClient.getProductSnapshots(variantIds);
+
+        cart.getCartItems().forEach(item -> builder.addItem(
+                item.getItemId(),
+                item.getQuantity(),
+                productSnapshots.get(item.getProductVariantId())));
 
         return builder.build();
     }
@@ -66,4 +99,23 @@ public class CartServiceImpl implements CartService {
     public void createCart() {
         cartRepository.save(Cart.create());
     }
+
+    // ===================== Private Helpers =====================
+
+    /**
+     * Ownership check, insert and merge with existing lines in one batch round trip.
+     */
+    private void upsertItems(UUID cartId, Collection<CartItem> items) {
+        var ownerId = CurrentUser.getCurrentUserId()
+                .map(UUID::toString)
+                .orElseThrow(() -> new CartNotFoundException("Failed to find cart by Id: " + cartId));
+
+        if (itemRepository.upsertItems(cartId, ownerId, items) == 0)
+            throw new CartNotFoundException("Failed to find cart by Id: " + cartId);
+    }
+
+    private void ensurePositiveQuantity(AddCartItemRequest request) {
+        if (request.quantity() <= 0)
+            throw new InvalidCartItemsException("Quantity must be positive for variant: " + request.productVariantId());
+    }
 }
@@ -4,17 +4,20 @@ import com.donkie.quickcart.orders.application.dto.response.OrderItemResponse;
 import com.donkie.quickcart.orders.application.dto.response.OrderResponse;
 import com.donkie.quickcart.orders.application.exception.OrderNotFoundException;
 import com.donkie.quickcart.orders.application.port.ProductClient;
-import com.donkie.quickcart.orders.application.port.UserClient;
 import com.donkie.quickcart.orders.application.service.OrderService;
 import com.donkie.quickcart.orders.domain.model.Cart;
+import com.donkie.quickcart.orders.domain.model.CartItem;
 import com.donkie.quickcart.orders.domain.model.Order;
 import com.donkie.quickcart.orders.domain.model.OrderItem;
 import com.donkie.quickcart.orders.domain.repository.OrderItemRepository;
 import com.donkie.quickcart.orders.domain.repository.OrderRepository;
+import com.donkie.quickcart.shared.dto.CursorPage;
 import com.donkie.quickcart.shared.dto.PageContainer;
+import com.donkie.quickcart.shared.jpa.SeekCursor;
 import com.donkie.quickcart.shared.security.util.CurrentUser;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -22,7 +25,10 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static com.donkie.quickcart.shared.security.util.OwnershipEvaluator.ensureOwnership;
 import static com.donkie.quickcart.shared.security.util.OwnershipEvaluator.isOwner;
@@ -34,19 +40,23 @@ public class OrderServiceImpl implements OrderService {
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final ProductClient productClient;
-    private final UserClient userClient;
     private final CartServiceHelper cartServiceHelper;
+    private final SnapshotEnricher snapshotEnricher;
 
     @Transactional
     @Override
     public void createOrder(UUID cartId, String shippingAddress) {
         Cart cart = cartServiceHelper.getCartIfOwner(cartId);
 
+        // Uncached, a price or deletion seen by another node's cache must not reach the order
+        var productSnapshots = productClient.getCurrentProductSnapshots(cart.getCartItems().stream()
+                .map(CartItem::getProductVariantId)
+                .collect(Collectors.toSet()));
+
         var items = cart.getCartItems()
                 .stream()
                 .map(item -> {
-                    var productId = item.getProductVariantId();
-                    var productSnapshot = productClient.getProductSnapShot(productId);
+                    var productSnapshot = productSnapshots.get(item.getProductVariantId());
                     return OrderItem.create(
                             item.getProductVariantId(),
                             item.getStoreId(),
@@ -55,6 +65,7 @@ public class OrderServiceImpl implements OrderService {
                 }).toList();
 
         var order = Order.create(shippingAddress, items);
+        productClient.reserveStock(stockLines(items)); // rolls back with the order if anything below fails
         orderRepository.save(order); // cascades to associated OrderItems.
     }
 
@@ -86,7 +97,9 @@ public class OrderServiceImpl implements OrderService {
     @Override
     public void cancelOrder(UUID orderId) {
         Order order = getOrderIfOwner(orderId);
-        order.cancelOrder();
+        if (order.cancelOrder()) {
+            productClient.releaseStock(stockLines(order.getOrderItems())); // compensates the reservation
+        }
         orderRepository.save(order);
     }
 
@@ -96,24 +109,10 @@ public class OrderServiceImpl implements OrderService {
         var storeSnap = productClient.getStoreSnapshot(storeId);
         ensureOwnership(storeSnap.ownerId().toString());
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by("created_date"));
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdDate", "itemId"));
         var items = orderItemRepository.findByStoreId(storeId, pageable);
 
-        var listOfOrders = items.stream()
-                .filter(this::isUserIdUUID)
-                .map(i -> {
-                    var productSnapshot = productClient.getProductSnapShot(i.getProductVariantId());
-                    UUID userId = UUID.fromString(i.getCreatedBy());
-                    var userSnapshot = userClient.getUserSnapShot(userId);
-
-                    return new OrderItemResponse(
-                            i.getItemId(),
-                            i.getQuantity(),
-                            i.getOrder().getCreatedDate(),
-                            productSnapshot,
-                            userSnapshot
-                    );
-                }).toList();
+        var listOfOrders = buildOrderItemResponses(items.getContent());
 
         return PageContainer.create(
                 items.getNumber(),
@@ -123,24 +122,44 @@ public class OrderServiceImpl implements OrderService {
                 listOfOrders);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPage<OrderItemResponse> scrollOrdersForSeller(UUID storeId, String cursor, int size, boolean withTotal) {
+        var storeSnap = productClient.getStoreSnapshot(storeId);
+        ensureOwnership(storeSnap.ownerId().toString());
+
+        Long total = withTotal ? orderItemRepository.countByStoreId(storeId) : null;
+        var limit = Limit.of(size + 1);
+        var rows = SeekCursor.decode(cursor)
+                .map(position -> orderItemRepository.findNewestByStoreIdBefore(storeId, position.timestamp(), position.id(), limit))
+                .orElseGet(() -> orderItemRepository.findNewestByStoreId(storeId, limit));
+
+        return CursorPage.fromRows(
+                rows,
+                size,
+                i -> new SeekCursor(i.getCreatedDate(), i.getItemId()),
+                this::buildOrderItemResponses,
+                total);
+    }
+
     @Transactional(readOnly = true)
     @Override
     public OrderResponse getOrder(UUID orderId) {
         var order = orderRepository.findById(orderId)
                 .orElseThrow(() -> new OrderNotFoundException("Failed to find order by Id: " + orderId));
 
-        return buildOrderResponse(order);
+        return buildOrderResponses(List.of(order)).getFirst();
     }
 
+    @Transactional(readOnly = true)
     @Override
     public PageContainer<OrderResponse> getMyOrder(int page, int size) {
         UUID userId = CurrentUser.getCurrentUserId().orElseThrow(() -> new AccessDeniedException("Could not find authentication."));
 
-        Pageable pageable = PageRequest.of(page, size, Sort.Direction.ASC);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdDate", "orderId"));
         var pageData = orderRepository.findAllByCreatedBy(userId.toString(), pageable);
 
-        var listOfOrders = pageData.stream()
-                .map(this::buildOrderResponse).toList();
+        var listOfOrders = buildOrderResponses(pageData.getContent());
 
         return PageContainer.create(
                 pageData.getNumber(),
@@ -150,24 +169,95 @@ public class OrderServiceImpl implements OrderService {
                 listOfOrders);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPage<OrderResponse> scrollMyOrders(String cursor, int size, boolean withTotal) {
+        String userId = CurrentUser.getCurrentUserId()
+                .orElseThrow(() -> new AccessDeniedException("Could not find authentication."))
+                .toString();
+
+        Long total = withTotal ? orderRepository.countByCreatedBy(userId) : null;
+        var limit = Limit.of(size + 1);
+        var rows = SeekCursor.decode(cursor)
+                .map(position -> orderRepository.findNewestByCreatedByBefore(userId, position.timestamp(), position.id(), limit))
+                .orElseGet(() -> orderRepository.findNewestByCreatedBy(userId, limit));
+
+        return CursorPage.fromRows(
+                rows,
+                size,
+                o -> new SeekCursor(o.getCreatedDate(), o.getOrderId()),
+                this::buildOrderResponses,
+                total);
+    }
+
     // ========================= Private Helpers =========================
 
-    private OrderResponse buildOrderResponse(Order order) {
-        var builder = OrderResponse.builderInit(
-                order.getOrderId(),
-                order.getCreatedDate(),
-                order.getBillAmount(),
-                order.getOrderStatus(),
-                order.getPaymentStatus()
-        );
-
-        order.getOrderItems().forEach(item -> {
-            var productSnapshot = productClient.getProductSnapShot(item.getProductVariantId());
-            var storeSnapshot = productClient.getStoreSnapshot(item.getStoreId());
-            builder.addItem(item.getItemId(), item.getQuantity(), productSnapshot, storeSnapshot);
-        });
-
-        return builder.build();
+    private static Map<UUID, Integer> stockLines(List<OrderItem> items) {
+        return items.stream().collect(Collectors.toMap(OrderItem::getProductVariantId, OrderItem::getQuantity, Integer::sum));
+    }
+
+    /**
+     * Builds responses for the given orders, resolving the items and the product and store
+     * snapshots of all the orders in one go, regardless of the number of orders.
+     */
+    private List<OrderResponse> buildOrderResponses(List<Order> orders) {
+        if (orders.isEmpty()) return List.of();
+
+        var itemsByOrder = orderItemRepository.findByOrder_OrderIdIn(orders.stream().map(Order::getOrderId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(item -> item.getOrder().getOrderId()));
+        var allItems = itemsByOrder.values().stream().flatMap(List::stream).toList();
+
+        var productSnapshots = productClient.getProductSnapshots(allItems.stream()
+                .map(OrderItem::getProductVariantId)
+                .collect(Collectors.toSet()));
+        var storeSnapshots = productClient.getStoreSnapshots(allItems.stream()
+                .map(OrderItem::getStoreId)
+                .collect(Collectors.toSet()));
+
+        return orders.stream().map(order -> {
+            var builder = OrderResponse.builderInit(
+                    order.getOrderId(),
+                    order.getCreatedDate(),
+                    order.getBillAmount(),
+                    order.getOrderStatus(),
+                    order.getPaymentStatus()
+            );
+
+            itemsByOrder.getOrDefault(order.getOrderId(), List.of()).forEach(item -> builder.addItem(
+                    item.getItemId(),
+                    item.getQuantity(),
+                    productSnapshots.get(item.getProductVariantId()),
+                    storeSnapshots.get(item.getStoreId())));
+
+            return builder.build();
+        }).toList();
+    }
+
+    /**
+     * Builds seller facing responses for the given items, the product and customer snapshots are resolved
+     * concurrently. A snapshot that cannot be resolved is left empty rather than failing the page.
+     * Items whose creator is not a user ID are skipped.
+     */
+    private List<OrderItemResponse> buildOrderItemResponses(List<OrderItem> items) {
+        var validItems = items.stream()
+                .filter(this::isUserIdUUID)
+                .toList();
+        if (validItems.isEmpty()) return List.of();
+
+        var snapshots = snapshotEnricher.resolve(
+                validItems.stream().map(OrderItem::getProductVariantId).toList(),
+                List.of(),
+                validItems.stream().map(i -> UUID.fromString(i.getCreatedBy())).toList());
+
+        return validItems.stream()
+                .map(i -> new OrderItemResponse(
+                        i.getItemId(),
+                        i.getQuantity(),
+                        i.getOrder().getCreatedDate(),
+                        snapshots.products().get(i.getProductVariantId()),
+                        snapshots.users().get(UUID.fromString(i.getCreatedBy()))
+                )).toList();
     }
 
     private Order getOrderIfOwner(UUID orderId) {
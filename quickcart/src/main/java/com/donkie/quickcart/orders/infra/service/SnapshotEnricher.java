@@ -0,0 +1,141 @@
+package com.donkie.quickcart.orders.infra.service;
+
+import com.donkie.quickcart.orders.application.model.PageSnapshots;
+import com.donkie.quickcart.orders.application.port.ProductClient;
+import com.donkie.quickcart.orders.application.port.UserClient;
+import com.donkie.quickcart.orders.infra.config.SnapshotEnrichmentProperties;
+import com.donkie.quickcart.shared.observability.RequestSqlStats;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Resolves the product, store and user snapshots of a page of orders concurrently.
+ * <p>
+ * The three kinds are fetched in parallel, each with one batch call. When a batch call fails or times out
+ * (e.g. one unknown ID, or a remote client without a batch endpoint), that kind falls back to one call per
+ * distinct ID, still in parallel. Every call is bounded by {@code app.orders.enrichment.call-timeout}, and
+ * whatever cannot be resolved is left out instead of failing the page. Calls run on virtual threads, a
+ * semaphore created for each page caps how many of its calls are in flight so a page cannot drain the
+ * connection pool. The SQL the calls issue is counted in the request's {@link RequestSqlStats}.
+ */
+@Slf4j
+@Component
+public class SnapshotEnricher {
+    private final ProductClient productClient;
+    private final UserClient userClient;
+    private final SnapshotEnrichmentProperties properties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public SnapshotEnricher(ProductClient productClient, UserClient userClient, SnapshotEnrichmentProperties properties) {
+        this.productClient = productClient;
+        this.userClient = userClient;
+        this.properties = properties;
+    }
+
+    public PageSnapshots resolve(Collection<UUID> variantIds, Collection<UUID> storeIds, Collection<UUID> userIds) {
+        var page = new Page(new Semaphore(Math.max(1, properties.getMaxConcurrency())),
+                variantIds.size() + storeIds.size() + userIds.size());
+        var products = submit(() -> resolveKind(page, "product",
+                variantIds, productClient::getProductSnapshots, productClient::getProductSnapShot));
+        var stores = submit(() -> resolveKind(page, "store",
+                storeIds, productClient::getStoreSnapshots, productClient::getStoreSnapshot));
+        var users = submit(() -> resolveKind(page, "user",
+                userIds, userClient::getUserSnapshots, userClient::getUserSnapShot));
+
+        return new PageSnapshots(join(products), join(stores), join(users));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ===================== Private Helpers =====================
+
+    /**
+     * @param permits shared by the calls of all three kinds of the page
+     * @param maxCalls upper bound of the calls the page may make, one per ID if every batch call fails
+     */
+    private record Page(Semaphore permits, int maxCalls) {
+    }
+
+    private <V> Map<UUID, V> resolveKind(Page page,
+                                         String kind,
+                                         Collection<UUID> ids,
+                                         Function<Collection<UUID>, Map<UUID, V>> batchCall,
+                                         Function<UUID, V> singleCall) {
+        Set<UUID> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+        if (distinctIds.isEmpty()) return Map.of();
+
+        try {
+            return await(submit(() -> limited(page, () -> batchCall.apply(distinctIds))));
+        } catch (Exception e) {
+            log.warn("Batch {} snapshot lookup of {} IDs failed, resolving one by one: {}", kind, distinctIds.size(), e.toString());
+        }
+
+        Map<UUID, Future<V>> calls = new LinkedHashMap<>();
+        distinctIds.forEach(id -> calls.put(id, submit(() -> limited(page, () -> singleCall.apply(id)))));
+
+        // The permits are shared with the other kinds, wait for as many rounds as the whole page may need
+        Map<UUID, V> resolved = new HashMap<>();
+        long deadline = System.nanoTime() + properties.getCallTimeout().toNanos() * ceilDiv(page.maxCalls(), properties.getMaxConcurrency());
+        calls.forEach((id, call) -> {
+            try {
+                V snapshot = call.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (snapshot != null) resolved.put(id, snapshot);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                call.cancel(true);
+            } catch (Exception e) {
+                call.cancel(true);
+                log.warn("Failed to resolve {} snapshot {}: {}", kind, id, e.toString());
+            }
+        });
+        return resolved;
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        return executor.submit(RequestSqlStats.propagate(task));
+    }
+
+    private static <T> T limited(Page page, Callable<T> call) throws Exception {
+        page.permits().acquire();
+        try {
+            return call.call();
+        } finally {
+            page.permits().release();
+        }
+    }
+
+    private <T> T await(Future<T> future) throws Exception {
+        try {
+            return future.get(properties.getCallTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw e;
+        }
+    }
+
+    private static <T> Map<UUID, T> join(Future<Map<UUID, T>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return Map.of();
+        } catch (ExecutionException e) {
+            log.error("Snapshot enrichment failed", e.getCause());
+            return Map.of();
+        }
+    }
+
+    private static int ceilDiv(int a, int b) {
+        return Math.max(1, Math.ceilDiv(a, Math.max(1, b)));
+    }
+}
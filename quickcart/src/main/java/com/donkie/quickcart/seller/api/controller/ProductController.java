@@ -6,8 +6,10 @@ import com.donkie.quickcart.seller.application.dto.response.ProductResponse;
 import com.donkie.quickcart.seller.application.service.contracts.ProductService;
 import com.donkie.quickcart.shared.dto.ApiAck;
 import com.donkie.quickcart.shared.dto.ApiResponse;
+import com.donkie.quickcart.shared.dto.CursorPage;
 import com.donkie.quickcart.shared.dto.PageContainer;
 import com.donkie.quickcart.shared.dto.PageResponse;
+import com.donkie.quickcart.shared.http.HttpCaching;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -71,13 +73,36 @@ public class ProductController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "25") int size) {
 
-        log.debug("Searching products by filters: brand: {} categories: {} rating: {} minPrice: {} maxPrice: {}",
-                filters.brand(), Arrays.toString(filters.categories()), filters.rating(), filters.minPrice(), filters.maxPrice());
+        log.debug("Searching products by filters: brand: {} fuzzyBrand: {} categories: {} rating: {} minPrice: {} maxPrice: {}",
+                filters.brand(), filters.fuzzyBrand(), Arrays.toString(filters.categories()), filters.rating(), filters.minPrice(), filters.maxPrice());
 
         List<ProductResponse> response = productService.getProductsByFilter(filters, page, size);
         return ResponseEntity.ok(ApiResponse.success("Products Found", response));
     }
 
+    /**
+     * Cursor paginated variant of the filter listing, pass the returned {@code next_cursor} to get the next page.
+     */
+    @GetMapping("/public/products/filter/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<ProductResponse>>> scrollProductsByFilter(
+            @ModelAttribute ProductFilters filters,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "25") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        CursorPage<ProductResponse> response = productService.scrollProductsByFilter(filters, cursor, size, withTotal);
+        return ResponseEntity.ok(ApiResponse.success("Products Found", response));
+    }
+
+
+    @GetMapping("/public/products/search")
+    public ResponseEntity<PageResponse<ProductResponse>> searchProducts(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "25") int size) {
+        log.debug("Searching products by query: {}", query);
+        PageContainer<ProductResponse> response = productService.searchProducts(query, page, size);
+        return ResponseEntity.ok(PageResponse.create("Products Found", response));
+    }
 
     @PutMapping("/products/{productId}")
     public ResponseEntity<ApiResponse<ProductResponse>> updateProduct(
@@ -98,9 +123,16 @@ public class ProductController {
                 .body(ApiAck.success("Product Deleted."));
     }
 
+    /**
+     * Answers 304 when {@code If-None-Match} carries the current ETag, read before the brands.
+     */
     @GetMapping("/public/brands")
     public ResponseEntity<ApiResponse<List<String>>> getBrands() {
-        return ResponseEntity.ok(ApiResponse.success("Brands Found", productService.getBrands()));
+        String eTag = productService.getBrandsETag();
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(HttpCaching.REVALIDATE)
+                .body(ApiResponse.success("Brands Found", productService.getBrands()));
     }
 
     @GetMapping("/stores/{storeId}/products")
@@ -112,4 +144,15 @@ public class ProductController {
         PageContainer<ProductResponse> response = productService.getProductsByStore(storeId, page, size);
         return ResponseEntity.ok(PageResponse.create("Products Found", response));
     }
+
+    @GetMapping("/stores/{storeId}/products/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<ProductResponse>>> scrollProductsByStore(
+            @PathVariable UUID storeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "15") int size,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        log.debug("Scrolling products by store: {}", storeId);
+        CursorPage<ProductResponse> response = productService.scrollProductsByStore(storeId, cursor, size, withTotal);
+        return ResponseEntity.ok(ApiResponse.success("Products Found", response));
+    }
 }
@@ -55,6 +55,15 @@ public class ProductVariantController {
         return ResponseEntity.ok(ApiResponse.success("Product Variant Updated.", response));
     }
 
+    @PutMapping("/variants/{variantId}/stock-buckets")
+    public ResponseEntity<ApiResponse<ProductVariantResponse>> configureStockBuckets(
+            @PathVariable UUID variantId,
+            @RequestParam int count
+    ) {
+        var response = variantService.configureStockBuckets(variantId, count);
+        return ResponseEntity.ok(ApiResponse.success("Product Variant Stock Buckets Updated.", response));
+    }
+
     @DeleteMapping("/variants/{variantId}")
     public ResponseEntity<ApiAck> deleteVariant(@PathVariable UUID variantId) {
         variantService.deleteProductVariant(variantId);
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 public record ProductFilters(
         @JsonProperty("brand") String brand,
+        @JsonProperty("fuzzy_brand") Boolean fuzzyBrand,
         @JsonProperty("categories") String[] categories,
         @JsonProperty("rating") Double rating,
         @JsonProperty("min_price") Double minPrice,
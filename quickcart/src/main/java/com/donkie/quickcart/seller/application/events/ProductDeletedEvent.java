@@ -3,4 +3,5 @@ package com.donkie.quickcart.seller.application.events;
 import java.util.UUID;
 
 public record ProductDeletedEvent(UUID productId) {
+    public static final String TYPE = "seller.product-deleted";
 }
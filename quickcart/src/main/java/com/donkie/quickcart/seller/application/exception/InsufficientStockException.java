@@ -0,0 +1,19 @@
+package com.donkie.quickcart.seller.application.exception;
+
+import com.donkie.quickcart.shared.exception.QuickcartBaseException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+public class InsufficientStockException extends QuickcartBaseException {
+    private final List<UUID> variantIds;
+
+    public InsufficientStockException(HttpStatus status, String message, List<UUID> variantIds) {
+        super(status, message);
+        this.variantIds = List.copyOf(variantIds);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.donkie.quickcart.seller.application.exception;
+
+import com.donkie.quickcart.shared.exception.QuickcartBaseException;
+import org.springframework.http.HttpStatus;
+
+public class ReplicationLagExceededException extends QuickcartBaseException {
+
+    public ReplicationLagExceededException(HttpStatus status, String message) {
+        super(status, message);
+    }
+
+    public ReplicationLagExceededException(HttpStatus status, String message, Throwable cause) {
+        super(status, message, cause);
+    }
+
+}
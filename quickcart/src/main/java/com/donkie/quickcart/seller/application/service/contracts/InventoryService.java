@@ -0,0 +1,25 @@
+package com.donkie.quickcart.seller.application.service.contracts;
+
+import com.donkie.quickcart.seller.application.exception.InsufficientStockException;
+
+import java.util.Map;
+import java.util.UUID;
+
+public interface InventoryService {
+
+    /**
+     * Takes the quantities off the stock of the variants, all or nothing. Joins the caller's transaction,
+     * so the stock comes back if that transaction rolls back.
+     *
+     * @param quantities quantity per product variant ID
+     * @throws InsufficientStockException when a variant is not sellable or has less stock than requested
+     */
+    void reserveStock(Map<UUID, Integer> quantities);
+
+    /**
+     * Puts previously reserved quantities back on the stock of the variants.
+     *
+     * @param quantities quantity per product variant ID
+     */
+    void releaseStock(Map<UUID, Integer> quantities);
+}
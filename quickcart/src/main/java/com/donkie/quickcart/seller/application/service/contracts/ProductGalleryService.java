@@ -1,8 +1,8 @@
 package com.donkie.quickcart.seller.application.service.contracts;
 
 import com.donkie.quickcart.uploads.api.dto.ContentType;
-import com.donkie.quickcart.uploads.api.dto.DownloadFile;
 import com.donkie.quickcart.uploads.api.dto.S3PresignedUpload;
+import com.donkie.quickcart.uploads.api.dto.StreamedFile;
 
 import java.util.List;
 import java.util.UUID;
@@ -12,7 +12,12 @@ public interface ProductGalleryService {
 
     void confirmImageUploads(UUID variantId, String[] objectKeys, String productGalleryDifferentiator);
 
-    DownloadFile getImage(UUID imageId);
+    /**
+     * @param width       requested width in pixels, null for the original
+     * @param range       HTTP {@code Range} header, null for the whole image
+     * @param ifNoneMatch HTTP {@code If-None-Match} header, null to skip the check
+     */
+    StreamedFile getImage(UUID imageId, Integer width, String range, String ifNoneMatch);
 
     void deleteImage(UUID imageId);
 }
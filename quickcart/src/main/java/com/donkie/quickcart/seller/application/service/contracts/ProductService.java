@@ -3,6 +3,7 @@ package com.donkie.quickcart.seller.application.service.contracts;
 import com.donkie.quickcart.seller.application.dto.request.ProductFilters;
 import com.donkie.quickcart.seller.application.dto.request.ProductRequest;
 import com.donkie.quickcart.seller.application.dto.response.ProductResponse;
+import com.donkie.quickcart.shared.dto.CursorPage;
 import com.donkie.quickcart.shared.dto.PageContainer;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -19,13 +20,22 @@ public interface ProductService {
 
     void deleteProduct(UUID productId);
 
-    List<ProductResponse> searchProducts(String searchQuery, int page, int size);
+    PageContainer<ProductResponse> searchProducts(String searchQuery, int page, int size);
 
     void publishProduct(UUID productId);
 
     List<ProductResponse> getProductsByFilter(ProductFilters filters, int page, int size);
 
+    CursorPage<ProductResponse> scrollProductsByFilter(ProductFilters filters, String cursor, int size, boolean withTotal);
+
     List<String> getBrands();
 
+    /**
+     * @return strong, quoted ETag of {@link #getBrands()}, served from memory
+     */
+    String getBrandsETag();
+
     PageContainer<ProductResponse> getProductsByStore(UUID storeId, int page, int size);
+
+    CursorPage<ProductResponse> scrollProductsByStore(UUID storeId, String cursor, int size, boolean withTotal);
 }
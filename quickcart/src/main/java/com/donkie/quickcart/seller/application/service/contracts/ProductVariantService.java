@@ -3,7 +3,9 @@ package com.donkie.quickcart.seller.application.service.contracts;
 import com.donkie.quickcart.seller.application.dto.request.ProductVariantRequest;
 import com.donkie.quickcart.seller.application.dto.response.ProductVariantResponse;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface ProductVariantService {
@@ -12,9 +14,22 @@ public interface ProductVariantService {
 
     ProductVariantResponse updateProductVariant(UUID variantId, ProductVariantRequest request);
 
+    /**
+     * Spreads the stock of a variant over the given number of bucket rows so checkouts of a hot variant do not
+     * all queue on one row, 0 moves the stock back onto the variant.
+     */
+    ProductVariantResponse configureStockBuckets(UUID variantId, int buckets);
+
     void deleteProductVariant(UUID variantId);
 
     List<ProductVariantResponse> getVariantsByProduct(UUID productId);
 
+    /**
+     * Batch form of {@link #getVariantsByProduct(UUID)} for listing pages.
+     *
+     * @return variants keyed by product ID, products without visible variants are absent
+     */
+    Map<UUID, List<ProductVariantResponse>> getVariantsByProducts(Collection<UUID> productIds);
+
     ProductVariantResponse getVariant(UUID variantId);
 }
@@ -4,6 +4,8 @@ package com.donkie.quickcart.seller.application.service.contracts;
 import com.donkie.quickcart.seller.adapters.dto.ProductSnapshot;
 import com.donkie.quickcart.seller.adapters.dto.StoreSnapshot;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface ResourceSnapService {
@@ -11,4 +13,14 @@ public interface ResourceSnapService {
     ProductSnapshot getProductVariantSnapshot(UUID variantId);
 
     StoreSnapshot getStoreSnapshot(UUID storeId);
+
+    List<ProductSnapshot> getProductVariantSnapshots(Collection<UUID> variantIds);
+
+    /**
+     * Same as {@link #getProductVariantSnapshots(Collection)} but read from the database, for callers that
+     * must not act on a price or active state cached by this or another node.
+     */
+    List<ProductSnapshot> getCurrentProductVariantSnapshots(Collection<UUID> variantIds);
+
+    List<StoreSnapshot> getStoreSnapshots(Collection<UUID> storeIds);
 }
@@ -2,17 +2,25 @@ package com.donkie.quickcart.seller.application.service.util;
 
 import com.donkie.quickcart.seller.domain.model.Product;
 import com.donkie.quickcart.seller.domain.model.ProductVariant;
-import jakarta.persistence.criteria.CriteriaBuilder;
+import com.donkie.quickcart.shared.jpa.SeekCursor;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
+import java.time.Instant;
 import java.util.UUID;
 
 public final class ProductSpecifications {
 
+    /**
+     * Stable listing order, the key used by {@link #after(SeekCursor)}.
+     */
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "lifecycleAudit.createdDate", "productId");
+
     private ProductSpecifications() {}
 
     public static Specification<Product> byFilters(ProductSpecs productSpecs) {
@@ -28,22 +36,22 @@ public final class ProductSpecifications {
             return spec;
         }
 
+        // Both modes are served by the trigram index on lower(brand) (see V11 migration)
         if (StringUtils.hasText(productSpecs.brand())) {
             String brand = productSpecs.brand().trim().toLowerCase();
-            spec = spec.and((root, query, cb) ->
-                    cb.like(cb.lower(root.get("brand")), "%" + escapeLike(brand) + "%"));
+            if (productSpecs.fuzzyBrand()) {
+                // Typo tolerant, "adidsa" still matches "adidas"
+                spec = spec.and((root, query, cb) -> cb.isTrue(
+                        cb.function("trgm_similar", Boolean.class, cb.lower(root.get("brand")), cb.literal(brand))));
+            } else {
+                spec = spec.and((root, query, cb) ->
+                        cb.like(cb.lower(root.get("brand")), "%" + escapeLike(brand) + "%"));
+            }
         }
 
+        // Category IDs already cover the whole subtree, a single IN on the product row is enough
         if (productSpecs.categoryIds() != null && !productSpecs.categoryIds().isEmpty()) {
-            spec = spec.and((root, query, cb) -> {
-                assert query != null;
-                query.distinct(true);
-                CriteriaBuilder.In<UUID> inClause = cb.in(root.get("categoryId"));
-                for (UUID categoryId : productSpecs.categoryIds()) {
-                    inClause.value(categoryId);
-                }
-                return inClause;
-            });
+            spec = spec.and((root, query, cb) -> root.get("categoryId").in(productSpecs.categoryIds()));
         }
 
         if (productSpecs.rating() != null) {
@@ -83,6 +91,26 @@ public final class ProductSpecifications {
     }
 
 
+    public static Specification<Product> byStore(UUID storeId) {
+        return (root, query, cb) -> cb.equal(root.get("store").get("storeId"), storeId);
+    }
+
+    /**
+     * Products strictly after the cursor in {@link #NEWEST_FIRST} order. The leading {@code created_date <= ?}
+     * conjunct is redundant but gives the planner a range bound on the index, the OR alone is not sargable.
+     */
+    public static Specification<Product> after(SeekCursor cursor) {
+        return (root, query, cb) -> {
+            Path<Instant> createdDate = root.get("lifecycleAudit").get("createdDate");
+            Path<UUID> productId = root.get("productId");
+            return cb.and(
+                    cb.lessThanOrEqualTo(createdDate, cursor.timestamp()),
+                    cb.or(
+                            cb.lessThan(createdDate, cursor.timestamp()),
+                            cb.and(cb.equal(createdDate, cursor.timestamp()), cb.lessThan(productId, cursor.id()))));
+        };
+    }
+
     private static String escapeLike(String input) {
         return input.replace("\\", "\\\\").replace("_", "\\_").replace("%", "\\%");
     }
@@ -5,6 +5,7 @@ import java.util.UUID;
 
 public record ProductSpecs(
         String brand,
+        boolean fuzzyBrand,
         List<UUID> categoryIds,
         Double rating,
         Double minPrice,
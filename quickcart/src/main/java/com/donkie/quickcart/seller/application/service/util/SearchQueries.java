@@ -0,0 +1,28 @@
+package com.donkie.quickcart.seller.application.service.util;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+public final class SearchQueries {
+    private static final int MAX_TERMS = 8;
+
+    private SearchQueries() {}
+
+    /**
+     * Turns free text into a prefix matching {@code tsquery}, e.g. {@code "iPhone 15 pr"} becomes
+     * {@code "iphone:* & 15:* & pr:*"}. Anything other than letters and digits is dropped, so user input
+     * can never inject tsquery operators.
+     *
+     * @return the tsquery, or an empty string if the text holds no searchable term
+     */
+    public static String toPrefixTsQuery(String text) {
+        if (text == null) return "";
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_TERMS)
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
@@ -34,9 +34,14 @@ public class ProductVariant {
     @Column(name = "price", nullable = false)
     private double price;
 
+    // Always 0 while the stock is striped, see stockBuckets
     @Column(name = "quantity", nullable = false)
     private int quantity;
 
+    // Number of product_variant_stock_bucket rows holding the stock, 0 when it is kept in quantity
+    @Column(name = "stock_buckets", nullable = false)
+    private int stockBuckets;
+
     @Column(name = "description")
     private String description;
 
@@ -61,6 +66,11 @@ public class ProductVariant {
     @Embedded
     private LifecycleAudit lifecycleAudit = new LifecycleAudit();
 
+    // Concurrent edits fail instead of overwriting each other, stock reservations bump it too
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     // Builder for controlled instantiation
     @Builder
     public ProductVariant(String title,
@@ -78,6 +88,10 @@ public class ProductVariant {
         this.lifecycleAudit.setActive(false);
     }
 
+    public boolean isStockStriped() {
+        return stockBuckets > 0;
+    }
+
     public boolean isActive() {
         return this.getLifecycleAudit().isActive();
     }
@@ -0,0 +1,73 @@
+package com.donkie.quickcart.seller.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Progress of orphaning the catalogue of a deleted store, products are processed in {@code product_id}
+ * order and {@link #lastProductId} is the highest one already committed.
+ */
+@Entity
+@Table(name = "store_orphaning_checkpoint")
+@Getter
+@Setter
+public class StoreOrphaningCheckpoint {
+
+    @Id
+    @Column(name = "store_id", nullable = false, updatable = false)
+    private UUID storeId;
+
+    @Column(name = "last_product_id")
+    private UUID lastProductId;
+
+    @Column(name = "products_orphaned", nullable = false)
+    private long productsOrphaned;
+
+    @Column(name = "variants_orphaned", nullable = false)
+    private long variantsOrphaned;
+
+    @Column(name = "batches", nullable = false)
+    private int batches;
+
+    @Column(name = "started_date", nullable = false, updatable = false)
+    private Instant startedDate;
+
+    @Column(name = "last_modified_date", nullable = false)
+    private Instant lastModifiedDate;
+
+    @Column(name = "completed_date")
+    private Instant completedDate;
+
+    public static StoreOrphaningCheckpoint start(UUID storeId) {
+        var now = Instant.now();
+        StoreOrphaningCheckpoint checkpoint = new StoreOrphaningCheckpoint();
+        checkpoint.setStoreId(storeId);
+        checkpoint.setStartedDate(now);
+        checkpoint.setLastModifiedDate(now);
+        return checkpoint;
+    }
+
+    public void advance(UUID lastProductId, int products, int variants) {
+        this.lastProductId = lastProductId;
+        this.productsOrphaned += products;
+        this.variantsOrphaned += variants;
+        this.batches++;
+        this.lastModifiedDate = Instant.now();
+    }
+
+    public void complete() {
+        this.completedDate = Instant.now();
+        this.lastModifiedDate = this.completedDate;
+    }
+
+    public boolean isCompleted() {
+        return completedDate != null;
+    }
+}
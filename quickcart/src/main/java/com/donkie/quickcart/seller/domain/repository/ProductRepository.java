@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -27,9 +28,60 @@ public interface ProductRepository extends CustomJpaRepository<Product, UUID>, J
             """)
     int markInactiveAndOrphanByStore(@Param("storeId") UUID storeId);
 
-    @Query("SELECT DISTINCT p.brand FROM Product p")
-    List<String> findDistinctBrands();
+    // Keyset walk over the products of a store, backed by idx_product_store_product_id
+    @Query(value = """
+            SELECT product_id FROM product
+            WHERE store_id = :storeId
+              AND product_id > :after
+            ORDER BY product_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UUID> findProductIdsByStoreAfter(@Param("storeId") UUID storeId,
+                                          @Param("after") UUID after,
+                                          @Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Product p
+            SET p.lifecycleAudit.isOrphan = TRUE,
+                p.lifecycleAudit.isActive = FALSE,
+                p.lifecycleAudit.isDeleted = TRUE,
+                p.lifecycleAudit.lastModifiedDate = CURRENT_TIMESTAMP
+            WHERE p.productId IN :productIds
+             AND (p.lifecycleAudit.isActive = TRUE OR p.lifecycleAudit.isOrphan = FALSE)
+            """)
+    int markInactiveAndOrphanByIds(@Param("productIds") Collection<UUID> productIds);
+
+    interface BrandCount {
+        String getBrand();
+
+        long getProducts();
+    }
+
+    @Query("""
+            SELECT p.brand AS brand, COUNT(p) AS products FROM Product p
+            WHERE p.lifecycleAudit.isDeleted = FALSE AND p.brand IS NOT NULL
+            GROUP BY p.brand
+            """)
+    List<BrandCount> countProductsByBrand();
 
     Page<Product> findByStore_StoreId(UUID store, Pageable pageable);
 
+    // Ranked full text search, search_vector is maintained by triggers (see V10 migration)
+    @Query(value = """
+            SELECT p.* FROM product p
+            WHERE p.search_vector @@ to_tsquery('simple', :tsQuery)
+              AND p.is_active = TRUE
+              AND p.is_deleted = FALSE
+            ORDER BY ts_rank_cd(p.search_vector, to_tsquery('simple', :tsQuery)) DESC, p.product_id
+            """,
+            countQuery = """
+            SELECT COUNT(*) FROM product p
+            WHERE p.search_vector @@ to_tsquery('simple', :tsQuery)
+              AND p.is_active = TRUE
+              AND p.is_deleted = FALSE
+            """,
+            nativeQuery = true)
+    Page<Product> searchActive(@Param("tsQuery") String tsQuery, Pageable pageable);
+
 }
@@ -6,10 +6,11 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-public interface ProductVariantRepository extends CustomJpaRepository<ProductVariant, UUID> {
+public interface ProductVariantRepository extends CustomJpaRepository<ProductVariant, UUID>, ProductVariantStockOperations {
 
     // Native query join for efficient update
     @Modifying(clearAutomatically = true)
@@ -38,8 +39,96 @@ public interface ProductVariantRepository extends CustomJpaRepository<ProductVar
             """, nativeQuery = true)
     int markInactiveAndOrphanByProduct(@Param("productId") UUID productId);
 
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE product_variant pv
+            SET is_orphan = TRUE,
+                is_active = FALSE,
+                is_deleted = TRUE,
+                last_modified_date = now()
+            WHERE pv.product_id IN (:productIds)
+              AND (pv.is_active = TRUE OR pv.is_orphan = FALSE)
+            """, nativeQuery = true)
+    int markInactiveAndOrphanByProducts(@Param("productIds") Collection<UUID> productIds);
+
     List<ProductVariant> findByProduct_ProductId(UUID productId);
 
+    interface BucketStock {
+        UUID getVariantId();
+
+        long getQuantity();
+    }
+
+    // Stock of striped variants, summed over their buckets
+    @Query(value = """
+            SELECT variant_id AS variantId, SUM(quantity) AS quantity
+            FROM product_variant_stock_bucket
+            WHERE variant_id IN (:variantIds)
+            GROUP BY variant_id
+            """, nativeQuery = true)
+    List<BucketStock> sumBucketStock(@Param("variantIds") Collection<UUID> variantIds);
+
+    // Striped variants whose fullest and emptiest bucket drifted apart by more than the threshold
+    @Query(value = """
+            SELECT variant_id FROM product_variant_stock_bucket
+            GROUP BY variant_id
+            HAVING MAX(quantity) - MIN(quantity) > :threshold
+            """, nativeQuery = true)
+    List<UUID> findVariantsWithUnbalancedBuckets(@Param("threshold") int threshold);
+
+    /**
+     * Spreads the stock of a striped variant evenly over its buckets, buckets are locked in order for the
+     * length of the statement's transaction.
+     */
+    @Modifying
+    @Query(value = """
+            WITH locked AS (
+                SELECT bucket, quantity FROM product_variant_stock_bucket
+                WHERE variant_id = :variantId
+                ORDER BY bucket
+                FOR UPDATE
+            ), total AS (
+                SELECT SUM(quantity) AS stock, COUNT(*) AS buckets FROM locked
+            )
+            UPDATE product_variant_stock_bucket b
+            SET quantity = t.stock / t.buckets + CASE WHEN b.bucket < t.stock % t.buckets THEN 1 ELSE 0 END
+            FROM total t
+            WHERE b.variant_id = :variantId
+            """, nativeQuery = true)
+    int rebalanceBuckets(@Param("variantId") UUID variantId);
+
+    // Single round trip for snapshot resolution, product and images are fetched along.
+    // Variants of a deleted product or store are excluded before the outbox has orphaned them.
+    @Query("""
+            SELECT DISTINCT pv FROM ProductVariant pv
+            JOIN FETCH pv.product p
+            LEFT JOIN FETCH pv.images
+            WHERE pv.variantId IN :variantIds
+              AND pv.lifecycleAudit.isActive = TRUE
+              AND pv.lifecycleAudit.isDeleted = FALSE
+              AND p.lifecycleAudit.isDeleted = FALSE
+              AND p.store.lifecycleAudit.isDeleted = FALSE
+            """)
+    List<ProductVariant> findAllActiveWithProductAndImages(@Param("variantIds") Collection<UUID> variantIds);
+
+    // Listing pages: the variants of every product on the page in one round trip, images fetched along
+    @Query("""
+            SELECT DISTINCT pv FROM ProductVariant pv
+            LEFT JOIN FETCH pv.images
+            WHERE pv.product.productId IN :productIds
+              AND pv.lifecycleAudit.isActive = TRUE
+              AND pv.lifecycleAudit.isDeleted = FALSE
+            """)
+    List<ProductVariant> findAllActiveWithImagesByProducts(@Param("productIds") Collection<UUID> productIds);
+
+    @Query("""
+            SELECT DISTINCT pv FROM ProductVariant pv
+            LEFT JOIN FETCH pv.images
+            WHERE pv.product.productId IN :productIds
+              AND pv.lifecycleAudit.isDeleted = FALSE
+            """)
+    List<ProductVariant> findAllNonDeletedWithImagesByProducts(@Param("productIds") Collection<UUID> productIds);
+
     default List<ProductVariant> findAllActiveByProduct(UUID productId) {
         return findAll((root, q, cb) -> cb.and(
                 cb.equal(root.get("product").get("productId"), productId),
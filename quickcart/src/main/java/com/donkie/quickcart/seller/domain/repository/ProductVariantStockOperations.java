@@ -0,0 +1,35 @@
+package com.donkie.quickcart.seller.domain.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Stock changes as conditional UPDATEs sent in one JDBC batch, implemented by {@link ProductVariantStockOperationsImpl}.
+ * Rows are updated in variant ID order so concurrent multi-line checkouts cannot deadlock each other.
+ * <p>
+ * Variants with striped stock ({@code stock_buckets > 0}) are served from their buckets instead of the variant row.
+ */
+public interface ProductVariantStockOperations {
+
+    /**
+     * Decrements the stock of every variant that is active, not deleted and has enough stock.
+     *
+     * @return the variants that were not decremented, empty when all of them were
+     */
+    List<UUID> decrementStock(Map<UUID, Integer> quantities);
+
+    void incrementStock(Map<UUID, Integer> quantities);
+
+    /**
+     * Deletes the buckets of the variant, waiting for checkouts holding one of them.
+     *
+     * @return the stock the buckets held
+     */
+    int removeStockBuckets(UUID variantId);
+
+    /**
+     * Creates buckets {@code 0 .. buckets - 1} for the variant with the stock spread evenly over them.
+     */
+    void createStockBuckets(UUID variantId, int stock, int buckets);
+}
@@ -0,0 +1,237 @@
+package com.donkie.quickcart.seller.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.jdbc.ReturningWork;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+public class ProductVariantStockOperationsImpl implements ProductVariantStockOperations {
+
+    // Check and decrement in one statement, the row lock is held only until the end of the transaction
+    private static final String DECREMENT_SQL = """
+            UPDATE product_variant
+            SET quantity = quantity - ?,
+                version = version + 1
+            WHERE variant_id = ?
+              AND quantity >= ?
+              AND stock_buckets = 0
+              AND is_active = TRUE
+              AND is_deleted = FALSE
+            """;
+
+    private static final String INCREMENT_SQL = """
+            UPDATE product_variant
+            SET quantity = quantity + ?,
+                version = version + 1
+            WHERE variant_id = ?
+              AND stock_buckets = 0
+            """;
+
+    // A random bucket holding enough stock, buckets taken by concurrent checkouts are skipped
+    private static final String DECREMENT_ANY_BUCKET_SQL = """
+            UPDATE product_variant_stock_bucket b
+            SET quantity = b.quantity - ?
+            WHERE (b.variant_id, b.bucket) = (
+                SELECT c.variant_id, c.bucket FROM product_variant_stock_bucket c
+                JOIN product_variant v ON v.variant_id = c.variant_id
+                WHERE c.variant_id = ?
+                  AND c.quantity >= ?
+                  AND v.is_active = TRUE
+                  AND v.is_deleted = FALSE
+                ORDER BY random()
+                LIMIT 1
+                FOR UPDATE OF c SKIP LOCKED)
+            """;
+
+    // Every bucket holding enough stock is taken, queue for the fullest one
+    private static final String DECREMENT_FULLEST_BUCKET_SQL = """
+            UPDATE product_variant_stock_bucket b
+            SET quantity = b.quantity - ?
+            WHERE (b.variant_id, b.bucket) = (
+                SELECT c.variant_id, c.bucket FROM product_variant_stock_bucket c
+                JOIN product_variant v ON v.variant_id = c.variant_id
+                WHERE c.variant_id = ?
+                  AND c.quantity >= ?
+                  AND v.is_active = TRUE
+                  AND v.is_deleted = FALSE
+                ORDER BY c.quantity DESC
+                LIMIT 1
+                FOR UPDATE OF c)
+            """;
+
+    private static final String LOCK_BUCKETS_SQL = """
+            SELECT c.bucket, c.quantity FROM product_variant_stock_bucket c
+            JOIN product_variant v ON v.variant_id = c.variant_id
+            WHERE c.variant_id = ?
+              AND v.is_active = TRUE
+              AND v.is_deleted = FALSE
+            ORDER BY c.bucket
+            FOR UPDATE OF c
+            """;
+
+    private static final String DECREMENT_BUCKET_SQL = """
+            UPDATE product_variant_stock_bucket
+            SET quantity = quantity - ?
+            WHERE variant_id = ?
+              AND bucket = ?
+            """;
+
+    private static final String INCREMENT_ANY_BUCKET_SQL = """
+            UPDATE product_variant_stock_bucket b
+            SET quantity = b.quantity + ?
+            WHERE (b.variant_id, b.bucket) = (
+                SELECT c.variant_id, c.bucket FROM product_variant_stock_bucket c
+                WHERE c.variant_id = ?
+                ORDER BY random()
+                LIMIT 1
+                FOR UPDATE OF c)
+            """;
+
+    private static final String DELETE_BUCKETS_SQL = """
+            DELETE FROM product_variant_stock_bucket
+            WHERE variant_id = ?
+            RETURNING quantity
+            """;
+
+    private static final String INSERT_BUCKET_SQL = """
+            INSERT INTO product_variant_stock_bucket (variant_id, bucket, quantity)
+            VALUES (?, ?, ?)
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UUID> decrementStock(Map<UUID, Integer> quantities) {
+        var lines = List.copyOf(new TreeMap<>(quantities).entrySet());
+        return doWork(connection -> {
+            int[] updated = executeBatch(connection, DECREMENT_SQL, lines, true);
+
+            // Striped variants never match the variant row, nor do variants out of stock
+            List<UUID> rejected = new ArrayList<>();
+            for (int i = 0; i < updated.length; i++) {
+                var line = lines.get(i);
+                if (updated[i] == 0 && !decrementBuckets(connection, line.getKey(), line.getValue())) {
+                    rejected.add(line.getKey());
+                }
+            }
+            return rejected;
+        });
+    }
+
+    @Override
+    public void incrementStock(Map<UUID, Integer> quantities) {
+        var lines = List.copyOf(new TreeMap<>(quantities).entrySet());
+        doWork(connection -> {
+            int[] updated = executeBatch(connection, INCREMENT_SQL, lines, false);
+            for (int i = 0; i < updated.length; i++) {
+                if (updated[i] == 0) {
+                    var line = lines.get(i);
+                    executeUpdate(connection, INCREMENT_ANY_BUCKET_SQL, line.getValue(), line.getKey());
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public int removeStockBuckets(UUID variantId) {
+        return doWork(connection -> {
+            try (var statement = connection.prepareStatement(DELETE_BUCKETS_SQL)) {
+                statement.setObject(1, variantId);
+                int stock = 0;
+                try (var rs = statement.executeQuery()) {
+                    while (rs.next()) stock += rs.getInt(1);
+                }
+                return stock;
+            }
+        });
+    }
+
+    @Override
+    public void createStockBuckets(UUID variantId, int stock, int buckets) {
+        doWork(connection -> {
+            try (var statement = connection.prepareStatement(INSERT_BUCKET_SQL)) {
+                for (int bucket = 0; bucket < buckets; bucket++) {
+                    statement.setObject(1, variantId);
+                    statement.setInt(2, bucket);
+                    statement.setInt(3, stock / buckets + (bucket < stock % buckets ? 1 : 0));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+            return null;
+        });
+    }
+
+    // ===================== Private Helpers =====================
+
+    /**
+     * Takes the quantity from a striped variant: from any single free bucket, else from the fullest bucket
+     * once it is free, else spread over all buckets.
+     */
+    private boolean decrementBuckets(Connection connection, UUID variantId, int quantity) throws SQLException {
+        if (executeUpdate(connection, DECREMENT_ANY_BUCKET_SQL, quantity, variantId, quantity) > 0) return true;
+        if (executeUpdate(connection, DECREMENT_FULLEST_BUCKET_SQL, quantity, variantId, quantity) > 0) return true;
+
+        Map<Integer, Integer> buckets = new TreeMap<>();
+        try (var statement = connection.prepareStatement(LOCK_BUCKETS_SQL)) {
+            statement.setObject(1, variantId);
+            try (var rs = statement.executeQuery()) {
+                while (rs.next()) buckets.put(rs.getInt(1), rs.getInt(2));
+            }
+        }
+        if (buckets.values().stream().mapToInt(Integer::intValue).sum() < quantity) return false;
+
+        try (var statement = connection.prepareStatement(DECREMENT_BUCKET_SQL)) {
+            int remaining = quantity;
+            for (var bucket : buckets.entrySet()) {
+                if (remaining == 0) break;
+                int taken = Math.min(remaining, bucket.getValue());
+                if (taken == 0) continue;
+                statement.setInt(1, taken);
+                statement.setObject(2, variantId);
+                statement.setInt(3, bucket.getKey());
+                statement.addBatch();
+                remaining -= taken;
+            }
+            statement.executeBatch();
+        }
+        return true;
+    }
+
+    private static int[] executeBatch(Connection connection,
+                                      String sql,
+                                      List<Map.Entry<UUID, Integer>> lines,
+                                      boolean bindGuard) throws SQLException {
+        if (lines.isEmpty()) return new int[0];
+        try (var statement = connection.prepareStatement(sql)) {
+            for (var line : lines) {
+                statement.setInt(1, line.getValue());
+                statement.setObject(2, line.getKey());
+                if (bindGuard) statement.setInt(3, line.getValue());
+                statement.addBatch();
+            }
+            return statement.executeBatch();
+        }
+    }
+
+    private static int executeUpdate(Connection connection, String sql, Object... params) throws SQLException {
+        try (var statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) statement.setObject(i + 1, params[i]);
+            return statement.executeUpdate();
+        }
+    }
+
+    private <T> T doWork(ReturningWork<T> work) {
+        return entityManager.unwrap(Session.class).doReturningWork(work);
+    }
+}
@@ -0,0 +1,29 @@
+package com.donkie.quickcart.seller.domain.repository;
+
+import com.donkie.quickcart.seller.domain.model.StoreOrphaningCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface StoreOrphaningCheckpointRepository extends JpaRepository<StoreOrphaningCheckpoint, UUID> {
+
+    /**
+     * Worst replay lag among the standbys streaming from this primary, in seconds. 0 without standbys, and
+     * also when the database role is not allowed to read the lag columns (needs {@code pg_monitor}).
+     */
+    @Query(value = """
+            SELECT COALESCE(MAX(EXTRACT(EPOCH FROM replay_lag)), 0)
+            FROM pg_stat_replication
+            """, nativeQuery = true)
+    double findMaxReplicationLagSeconds();
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM StoreOrphaningCheckpoint c WHERE c.completedDate < :before")
+    int deleteCompletedBefore(@Param("before") Instant before);
+}
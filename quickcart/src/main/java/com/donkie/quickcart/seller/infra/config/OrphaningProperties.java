@@ -0,0 +1,44 @@
+package com.donkie.quickcart.seller.infra.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.seller.orphaning")
+@Getter
+@Setter
+public class OrphaningProperties {
+    /**
+     * Orphan a deleted store's catalogue in committed batches, false updates everything in one transaction.
+     */
+    private boolean chunked = true;
+
+    /**
+     * Products per batch, their variants are updated in the same transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Pause after every committed batch, leaves room for other writers and for replicas to catch up.
+     */
+    private Duration batchPause = Duration.ofMillis(50);
+
+    /**
+     * Batches are held back while a standby replays further behind than this.
+     */
+    private Duration maxReplicationLag = Duration.ofSeconds(10);
+
+    /**
+     * How long to wait for the replicas before giving up, the run resumes from its checkpoint on the next attempt.
+     */
+    private Duration maxLagWait = Duration.ofMinutes(2);
+
+    /**
+     * How long the checkpoint of a completed run is kept before being deleted.
+     */
+    private Duration checkpointRetention = Duration.ofDays(7);
+}
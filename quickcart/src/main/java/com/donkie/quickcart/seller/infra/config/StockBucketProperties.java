@@ -0,0 +1,27 @@
+package com.donkie.quickcart.seller.infra.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.seller.stock-buckets")
+@Getter
+@Setter
+public class StockBucketProperties {
+    /**
+     * Upper bound for the buckets of one variant, concurrent checkouts of a variant scale with its bucket count.
+     */
+    private int maxBuckets = 64;
+
+    /**
+     * Delay between rebalancing runs, in milliseconds.
+     */
+    private long rebalanceIntervalMs = 10_000;
+
+    /**
+     * A variant is rebalanced once its fullest and emptiest bucket differ by more than this.
+     */
+    private int rebalanceThreshold = 10;
+}
@@ -2,6 +2,7 @@ package com.donkie.quickcart.seller.infra.integration.admin;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface CategoryClient {
@@ -9,4 +10,6 @@ public interface CategoryClient {
     Optional<CategorySnapshot> getCategorySnapshot(UUID categoryId);
 
     List<CategorySummary> getCategorySummaryByName(List<String> names);
+
+    Set<UUID> getCategoryIdsWithDescendants(List<String> names);
 }
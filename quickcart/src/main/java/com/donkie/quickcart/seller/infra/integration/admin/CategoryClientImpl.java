@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -38,4 +39,9 @@ public class CategoryClientImpl implements CategoryClient {
                         s.categoryLevel()
                 )).toList();
     }
+
+    @Override
+    public Set<UUID> getCategoryIdsWithDescendants(List<String> names) {
+        return categoryService.getActiveSubtreeIdsByName(names);
+    }
 }
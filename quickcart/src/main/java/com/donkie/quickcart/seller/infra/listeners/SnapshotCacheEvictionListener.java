@@ -0,0 +1,30 @@
+package com.donkie.quickcart.seller.infra.listeners;
+
+import com.donkie.quickcart.seller.application.events.ProductDeletedEvent;
+import com.donkie.quickcart.seller.application.events.StoreDeletedEvent;
+import com.donkie.quickcart.seller.infra.service.SnapshotCacheEvictor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SnapshotCacheEvictionListener {
+    private final SnapshotCacheEvictor snapshotCacheEvictor;
+
+    // Runs synchronously right after commit, so deleted resources stop being served at once
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProductDeletion(ProductDeletedEvent evt) {
+        log.debug("Evicting snapshots of deleted product {}", evt.productId());
+        snapshotCacheEvictor.evictVariantsOfProduct(evt.productId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStoreDeletion(StoreDeletedEvent evt) {
+        log.debug("Evicting snapshots of deleted store {}", evt.storeId());
+        snapshotCacheEvictor.evictStore(evt.storeId());
+    }
+}
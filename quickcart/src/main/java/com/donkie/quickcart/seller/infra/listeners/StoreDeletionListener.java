@@ -1,28 +1,36 @@
 package com.donkie.quickcart.seller.infra.listeners;
 
 import com.donkie.quickcart.seller.application.events.StoreDeletedEvent;
-import com.donkie.quickcart.seller.domain.repository.ProductRepository;
-import com.donkie.quickcart.seller.domain.repository.ProductVariantRepository;
 import com.donkie.quickcart.seller.infra.service.usecases.DoOrphanProductsUseCase;
-import io.github.resilience4j.retry.annotation.Retry;
+import com.donkie.quickcart.shared.outbox.OutboxEventHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionalEventListener;
-import org.springframework.transaction.event.TransactionPhase;
 
 import java.util.UUID;
 
+/**
+ * Orphans the products of a deleted store. Delivered through the outbox, so it runs even if the node
+ * that deleted the store goes down, and is retried until it succeeds.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class StoreDeletionListener {
+public class StoreDeletionListener implements OutboxEventHandler<StoreDeletedEvent> {
     private final DoOrphanProductsUseCase doOrphanProducts;
 
-    @Async("eventExecutor")
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT) // Runs AFTER commit and asynchronously on the 'eventExecutor' thread pool
-    public void onStoreDeletion(StoreDeletedEvent evt) {
+    @Override
+    public String eventType() {
+        return StoreDeletedEvent.TYPE;
+    }
+
+    @Override
+    public Class<StoreDeletedEvent> payloadType() {
+        return StoreDeletedEvent.class;
+    }
+
+    @Override
+    public void handle(StoreDeletedEvent evt) {
         UUID storeId = evt.storeId();
         log.info("Processing store deletion for {}", storeId);
 
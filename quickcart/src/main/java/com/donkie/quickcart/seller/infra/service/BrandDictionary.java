@@ -0,0 +1,118 @@
+package com.donkie.quickcart.seller.infra.service;
+
+import com.donkie.quickcart.seller.domain.repository.ProductRepository;
+import com.donkie.quickcart.shared.http.HttpCaching;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory dictionary of the brands of all non-deleted products, with the number of products per brand.
+ * <p>
+ * Product writes on this node adjust the counts once their transaction commits, a brand disappears when its
+ * last product is deleted. Bulk updates (store orphaning) and writes on other nodes are picked up by the
+ * periodic resync.
+ * <p>
+ * The sorted brand list and its ETag are computed once per version of the brand set, the version moves only
+ * when a brand appears or disappears, not when a product count changes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BrandDictionary {
+    private final ProductRepository productRepository;
+
+    private record Snapshot(long version, List<String> brands, String eTag) {
+    }
+
+    private final ConcurrentMap<String, Long> productsByBrand = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot = new Snapshot(-1, List.of(), null);
+    private volatile boolean loaded = false;
+
+    /**
+     * @return brand names, sorted alphabetically
+     */
+    public List<String> brands() {
+        return snapshot().brands();
+    }
+
+    /**
+     * @return strong, quoted ETag of {@link #brands()}, a digest of the list so every node tags it alike
+     */
+    public String eTag() {
+        return snapshot().eTag();
+    }
+
+    public void addProductAfterCommit(String brand) {
+        if (brand == null) return;
+        afterCommit(() -> {
+            if (productsByBrand.merge(brand, 1L, Long::sum) == 1L) version.incrementAndGet();
+        });
+    }
+
+    public void removeProductAfterCommit(String brand) {
+        if (brand == null) return;
+        // Returning null from the remapping function removes the brand
+        afterCommit(() -> {
+            boolean present = productsByBrand.containsKey(brand);
+            if (present && productsByBrand.computeIfPresent(brand, (b, count) -> count > 1 ? count - 1 : null) == null) {
+                version.incrementAndGet();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelay = 300_000, initialDelay = 300_000)
+    public synchronized void resync() {
+        var counts = productRepository.countProductsByBrand();
+        Set<String> brands = counts.stream().map(ProductRepository.BrandCount::getBrand).collect(Collectors.toSet());
+        boolean changed = !productsByBrand.keySet().equals(brands);
+
+        productsByBrand.keySet().retainAll(brands);
+        counts.forEach(c -> productsByBrand.put(c.getBrand(), c.getProducts()));
+        if (changed) version.incrementAndGet();
+        loaded = true;
+        log.debug("Brand dictionary resynced, {} brands", productsByBrand.size());
+    }
+
+    // ===================== Private Helpers =====================
+
+    /**
+     * Rebuilds the snapshot when the brand set moved on. The version is read before the map, so a snapshot can
+     * only be newer than its version and a stale one is replaced on the next call.
+     */
+    private Snapshot snapshot() {
+        if (!loaded) resync();
+        var current = snapshot;
+        long latest = version.get();
+        if (current.version() == latest) return current;
+
+        var brands = productsByBrand.keySet().stream().sorted().toList();
+        var next = new Snapshot(latest, brands, HttpCaching.digestETag(brands));
+        snapshot = next;
+        return next;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package com.donkie.quickcart.seller.infra.service;
+
+import com.donkie.quickcart.seller.application.exception.InsufficientStockException;
+import com.donkie.quickcart.seller.application.service.contracts.InventoryService;
+import com.donkie.quickcart.seller.domain.repository.ProductVariantRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Stock reservation without read locks: each line is a conditional decrement, a buyer either gets the
+ * quantity or the statement matches no row. Buyers of a hot variant only queue on its row for the
+ * duration of their own checkout transaction.
+ */
+@Slf4j
+@Service
+@AllArgsConstructor
+public class InventoryServiceImpl implements InventoryService {
+    private final ProductVariantRepository productVariantRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void reserveStock(Map<UUID, Integer> quantities) {
+        var rejected = productVariantRepository.decrementStock(quantities);
+        if (!rejected.isEmpty()) {
+            // Marks the transaction rollback-only, the lines already decremented are restored with it
+            throw new InsufficientStockException(HttpStatus.CONFLICT,
+                    "Insufficient stock for product variants: " + rejected, rejected);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Override
+    public void releaseStock(Map<UUID, Integer> quantities) {
+        productVariantRepository.incrementStock(quantities);
+        log.debug("Released stock of {} product variants", quantities.size());
+    }
+}
@@ -4,19 +4,21 @@ import com.donkie.quickcart.seller.application.exception.ProductVariantNotFoundE
 import com.donkie.quickcart.seller.application.service.contracts.ProductGalleryService;
 import com.donkie.quickcart.seller.domain.repository.ProductRepository;
 import com.donkie.quickcart.seller.domain.repository.ProductVariantRepository;
+import com.donkie.quickcart.shared.cache.CacheNames;
 import com.donkie.quickcart.shared.exception.QuickcartBaseException;
 import com.donkie.quickcart.uploads.api.dto.ContentType;
-import com.donkie.quickcart.uploads.api.dto.DownloadFile;
 import com.donkie.quickcart.uploads.api.dto.S3PresignedUpload;
+import com.donkie.quickcart.uploads.api.dto.StreamedFile;
+import com.donkie.quickcart.uploads.application.exception.ObjectNotFoundInS3Exception;
 import com.donkie.quickcart.uploads.application.model.UploadResult;
 import com.donkie.quickcart.uploads.application.service.ImageUploadService;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -49,6 +51,8 @@ public class ProductGalleryServiceImpl implements ProductGalleryService {
         return signs;
     }
 
+    // The snapshot carries the variant's first image as its thumbnail
+    @CacheEvict(cacheNames = CacheNames.PRODUCT_VARIANT_SNAPSHOTS, key = "#variantId")
     @Transactional
     @Override
     public void confirmImageUploads(UUID variantId, String[] objectKeys, String differentiatorName) {
@@ -67,11 +71,11 @@ public class ProductGalleryServiceImpl implements ProductGalleryService {
     }
 
     @Override
-    public DownloadFile getImage(UUID imageId) {
+    public StreamedFile getImage(UUID imageId, Integer width, String range, String ifNoneMatch) {
         try {
-            return imageUploadService.getImage(imageId);
-        } catch (IOException e) {
-            log.error("Failed to retrieve product Image for by ID: {} -> {}", imageId, e.getMessage(), e);
+            return imageUploadService.getImage(imageId, width, range, ifNoneMatch);
+        } catch (ObjectNotFoundInS3Exception e) {
+            log.error("Failed to retrieve product Image for by ID: {} -> {}", imageId, e.getMessage());
             throw new QuickcartBaseException(HttpStatus.NOT_FOUND, "Product image not found");
         }
     }
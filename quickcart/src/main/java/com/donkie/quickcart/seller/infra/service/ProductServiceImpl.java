@@ -12,20 +12,23 @@ import com.donkie.quickcart.seller.application.service.contracts.ProductService;
 import com.donkie.quickcart.seller.application.service.contracts.ProductVariantService;
 import com.donkie.quickcart.seller.application.service.util.ProductSpecifications;
 import com.donkie.quickcart.seller.application.service.util.ProductSpecs;
+import com.donkie.quickcart.seller.application.service.util.SearchQueries;
 import com.donkie.quickcart.seller.domain.model.Product;
 import com.donkie.quickcart.seller.domain.model.Store;
 import com.donkie.quickcart.seller.domain.repository.ProductRepository;
 import com.donkie.quickcart.seller.domain.repository.StoreRepository;
 import com.donkie.quickcart.seller.infra.integration.admin.CategoryClient;
-import com.donkie.quickcart.seller.infra.integration.admin.CategorySummary;
+import com.donkie.quickcart.shared.dto.CursorPage;
 import com.donkie.quickcart.shared.dto.PageContainer;
+import com.donkie.quickcart.shared.jpa.SeekCursor;
+import com.donkie.quickcart.shared.outbox.OutboxPublisher;
 import com.donkie.quickcart.user.domain.model.UserRole;
 import lombok.AllArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -44,6 +47,9 @@ public class ProductServiceImpl implements ProductService {
     private final CategoryClient categoryClient;
     private final ProductVariantService productVariantService;
     private final ApplicationEventPublisher eventPublisher;
+    private final SnapshotCacheEvictor snapshotCacheEvictor;
+    private final BrandDictionary brandDictionary;
+    private final OutboxPublisher outboxPublisher;
 
     @Transactional
     @Override
@@ -64,6 +70,7 @@ public class ProductServiceImpl implements ProductService {
                 .build();
 
         productRepository.save(product);
+        brandDictionary.addProductAfterCommit(product.getBrand());
         return product.getProductId();
     }
 
@@ -74,8 +81,14 @@ public class ProductServiceImpl implements ProductService {
 
         product.setTitle(request.title());
         product.setDescription(request.description());
+        if (!Objects.equals(product.getBrand(), request.brand())) {
+            brandDictionary.removeProductAfterCommit(product.getBrand());
+            brandDictionary.addProductAfterCommit(request.brand());
+        }
         product.setBrand(request.brand());
         productRepository.save(product);
+        // Variant snapshots carry the product title
+        snapshotCacheEvictor.evictVariantsOfProduct(productId);
 
         List<ProductVariantResponse> variants = productVariantService.getVariantsByProduct(productId);
 
@@ -115,13 +128,28 @@ public class ProductServiceImpl implements ProductService {
         product.getLifecycleAudit().setActive(false);
 
         productRepository.save(product);
-        eventPublisher.publishEvent(new ProductDeletedEvent(productId));
+        brandDictionary.removeProductAfterCommit(product.getBrand());
+        var event = new ProductDeletedEvent(productId);
+        // Durable: orphans the variants, see ProductDeletionListener
+        outboxPublisher.publish(ProductDeletedEvent.TYPE, productId, event);
+        // In-process: evicts cached snapshots right after commit
+        eventPublisher.publishEvent(event);
     }
 
+    /**
+     * Ranked, prefix matching full text search over active products.
+     */
+    @Transactional(readOnly = true)
     @Override
-    public List<ProductResponse> searchProducts(String searchQuery, int page, int size) {
-        // TODO: Must configure DB for search support first
-        return List.of();
+    public PageContainer<ProductResponse> searchProducts(String searchQuery, int page, int size) {
+        String tsQuery = SearchQueries.toPrefixTsQuery(searchQuery);
+        if (tsQuery.isEmpty()) {
+            return PageContainer.create(page, size, 0, 0, List.of());
+        }
+
+        var paged = productRepository.searchActive(tsQuery, PageRequest.of(page, size));
+        var content = toProductResponses(paged.getContent());
+        return PageContainer.create(paged.getNumber(), paged.getSize(), paged.getTotalElements(), paged.getTotalPages(), content);
     }
 
     @Transactional
@@ -137,50 +165,49 @@ public class ProductServiceImpl implements ProductService {
     @Transactional(readOnly = true)
     @Override
     public List<ProductResponse> getProductsByFilter(ProductFilters filters, int page, int size) {
-        List<String> categories = (filters.categories() != null && filters.categories().length > 0)
-                ? Arrays.asList(filters.categories())
-                : Collections.emptyList();
+        var spec = buildFilterSpec(filters);
+        if (spec.isEmpty()) return List.of();
 
-        List<UUID> categoryIds = resolveCategoryIds(filters, categories);
+        Pageable pageable = PageRequest.of(page, size, ProductSpecifications.NEWEST_FIRST);
 
-        ProductSpecs productSpecs = new ProductSpecs(
-                filters.brand(),
-                categoryIds,
-                filters.rating(),
-                filters.minPrice(),
-                filters.maxPrice()
-        );
+        return toProductResponses(productRepository.findAll(spec.get(), pageable).getContent());
+    }
 
-        var spec = ProductSpecifications.byFilters(productSpecs);
-        Pageable pageable = PageRequest.of(page, size);
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPage<ProductResponse> scrollProductsByFilter(ProductFilters filters, String cursor, int size, boolean withTotal) {
+        var spec = buildFilterSpec(filters);
+        if (spec.isEmpty()) return CursorPage.empty(size, withTotal ? 0L : null);
 
-        return productRepository.findAll(spec, pageable).stream()
-                .map(product -> {
-                    var variants = productVariantService.getVariantsByProduct(product.getProductId());
-                    return toProductResponse(product, variants);
-                })
-                .toList();
+        return scroll(spec.get(), cursor, size, withTotal);
     }
 
     @Override
     public List<String> getBrands() {
-        return productRepository.findDistinctBrands();
+        return brandDictionary.brands();
+    }
+
+    @Override
+    public String getBrandsETag() {
+        return brandDictionary.eTag();
     }
 
     @Transactional
     @Override
     public PageContainer<ProductResponse> getProductsByStore(UUID storeId, int page, int size) {
-        Sort sort = Sort.by(Sort.Direction.DESC, "lifecycleAudit.lastModifiedDate");
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, size, ProductSpecifications.NEWEST_FIRST);
         var paged = productRepository.findByStore_StoreId(storeId, pageable);
 
-        var content = paged.stream().map(p -> {
-            var variants = productVariantService.getVariantsByProduct(p.getProductId());
-            return toProductResponse(p, variants);
-        }).toList();
+        var content = toProductResponses(paged.getContent());
         return PageContainer.create(paged.getNumber(), paged.getSize(), paged.getTotalElements(), paged.getTotalPages(), content);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPage<ProductResponse> scrollProductsByStore(UUID storeId, String cursor, int size, boolean withTotal) {
+        return scroll(ProductSpecifications.byStore(storeId), cursor, size, withTotal);
+    }
+
 
     // ===================== Private Helpers =====================
 
@@ -191,47 +218,79 @@ public class ProductServiceImpl implements ProductService {
         return product;
     }
 
-    private List<UUID> resolveCategoryIds(ProductFilters filters, List<String> categories) {
-        if (categories.isEmpty()) {
-            return List.of();
-        } else {
-            // ensure to convert to lower case for comparison
-            categories = categories.stream()
-                    .map(String::toLowerCase)
-                    .toList();
-        }
+    /**
+     * @return the specification for the filters, empty when the requested categories match nothing
+     */
+    private Optional<Specification<Product>> buildFilterSpec(ProductFilters filters) {
+        List<String> categories = (filters.categories() != null && filters.categories().length > 0)
+                ? Arrays.asList(filters.categories())
+                : Collections.emptyList();
 
-        List<CategorySummary> summaries = categoryClient.getCategorySummaryByName(categories);
+        List<UUID> categoryIds = resolveCategoryIds(categories);
+        if (!categories.isEmpty() && categoryIds.isEmpty()) {
+            // None of the requested categories exist, nothing can match
+            return Optional.empty();
+        }
 
-        // Find child-most categories by priority: level 3 > 2 > 1
-        List<CategorySummary> childMostCategories = findChildMostCategories(summaries);
+        ProductSpecs productSpecs = new ProductSpecs(
+                filters.brand(),
+                Boolean.TRUE.equals(filters.fuzzyBrand()),
+                categoryIds,
+                filters.rating(),
+                filters.minPrice(),
+                filters.maxPrice()
+        );
+        return Optional.of(ProductSpecifications.byFilters(productSpecs));
+    }
 
-        // Map category names to their IDs
-        return Arrays.stream(filters.categories())
-                .map(catName -> childMostCategories.stream()
-                        .filter(summary -> summary.name().equalsIgnoreCase(catName))
-                        .findFirst()
-                        .orElse(null)
-                )
-                .filter(Objects::nonNull)
-                .map(CategorySummary::categoryId)
-                .toList();
+    /**
+     * Keyset page over the products matching the spec, fetches one extra row to detect the following page
+     * and only counts when asked to.
+     */
+    private CursorPage<ProductResponse> scroll(Specification<Product> spec, String cursor, int size, boolean withTotal) {
+        Long total = withTotal ? productRepository.count(spec) : null;
+
+        var pageSpec = SeekCursor.decode(cursor)
+                .map(position -> spec.and(ProductSpecifications.after(position)))
+                .orElse(spec);
+        List<Product> rows = productRepository.findBy(pageSpec, q -> q
+                .sortBy(ProductSpecifications.NEWEST_FIRST)
+                .limit(size + 1)
+                .all());
+
+        return CursorPage.fromRows(
+                rows,
+                size,
+                p -> new SeekCursor(p.getLifecycleAudit().getCreatedDate(), p.getProductId()),
+                this::toProductResponses,
+                total);
     }
 
-    private List<CategorySummary> findChildMostCategories(List<CategorySummary> summaries) {
-        List<Integer> levels = List.of(3, 2, 1);
-        for (int level : levels) {
-            List<CategorySummary> filtered = summaries.stream()
-                    .filter(s -> s.categoryLevel() == level)
-                    .toList();
-            if (!filtered.isEmpty()) {
-                return filtered;
-            }
-        }
-        return List.of();
+    /**
+     * Resolves the requested category names to the matched categories and all of their descendants,
+     * so filtering by a parent category also returns products filed under its children.
+     */
+    private List<UUID> resolveCategoryIds(List<String> categories) {
+        if (categories.isEmpty()) return List.of();
+        return List.copyOf(categoryClient.getCategoryIdsWithDescendants(categories));
     }
 
 
+    /**
+     * Assembles a listing page: the products are already loaded, their variants and images come
+     * from a single batch query instead of one query per product and per variant.
+     */
+    private List<ProductResponse> toProductResponses(List<Product> products) {
+        if (products.isEmpty()) return List.of();
+
+        var variantsByProduct = productVariantService.getVariantsByProducts(products.stream()
+                .map(Product::getProductId)
+                .toList());
+        return products.stream()
+                .map(p -> toProductResponse(p, variantsByProduct.getOrDefault(p.getProductId(), List.of())))
+                .toList();
+    }
+
     private static @NotNull ProductResponse toProductResponse(Product product, List<ProductVariantResponse> variants) {
         return new ProductResponse(
                 product.getProductId(),
@@ -10,15 +10,22 @@ import com.donkie.quickcart.seller.domain.model.ProductVariant;
 import com.donkie.quickcart.seller.domain.repository.ProductRepository;
 import com.donkie.quickcart.seller.domain.repository.ProductVariantRepository;
 import com.donkie.quickcart.seller.domain.repository.StoreRepository;
+import com.donkie.quickcart.seller.infra.config.StockBucketProperties;
+import com.donkie.quickcart.shared.cache.CacheNames;
+import com.donkie.quickcart.shared.exception.QuickcartBaseException;
 import com.donkie.quickcart.shared.security.util.CurrentUser;
 import com.donkie.quickcart.user.domain.model.UserRole;
 import lombok.AllArgsConstructor;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -32,6 +39,7 @@ public class ProductVariantServiceImpl implements ProductVariantService {
     private final ProductVariantRepository productVariantRepository;
     private final ProductRepository productRepository;
     private final StoreRepository storeRepository;
+    private final StockBucketProperties stockBucketProperties;
 
     @Transactional
     @Override
@@ -51,9 +59,10 @@ public class ProductVariantServiceImpl implements ProductVariantService {
                 .build();
 
         productVariantRepository.save(variant);
-        return toResponse(variant, resolveImageURIs(variant));
+        return toResponse(variant, resolveImageURIs(variant), variant.getQuantity());
     }
 
+    @CacheEvict(cacheNames = CacheNames.PRODUCT_VARIANT_SNAPSHOTS, key = "#variantId")
     @Transactional
     @Override
     public ProductVariantResponse updateProductVariant(UUID variantId, ProductVariantRequest request) {
@@ -62,14 +71,44 @@ public class ProductVariantServiceImpl implements ProductVariantService {
 
         variant.setTitle(request.title());
         variant.setPrice(request.price());
-        variant.setQuantity(request.quantity());
         variant.setDescription(request.description());
         variant.setAttributes(request.attributes());
+        int stock = request.quantity();
+        if (variant.isStockStriped()) {
+            stock = adjustStockBuckets(variant, request.quantity());
+        } else {
+            variant.setQuantity(request.quantity());
+        }
+
+        productVariantRepository.save(variant);
+        return toResponse(variant, resolveImageURIs(variant), stock);
+    }
+
+    @Transactional
+    @Override
+    public ProductVariantResponse configureStockBuckets(UUID variantId, int buckets) {
+        if (buckets < 0 || buckets > stockBucketProperties.getMaxBuckets())
+            throw new QuickcartBaseException(HttpStatus.BAD_REQUEST,
+                    "Stock buckets must be between 0 and " + stockBucketProperties.getMaxBuckets());
+
+        var variant = getIfNotDeletedAndIsOwner(variantId);
+
+        // Deleting the buckets waits for checkouts holding them, a reservation on the variant row since
+        // it was loaded fails the version check on save
+        int stock = variant.getQuantity() + productVariantRepository.removeStockBuckets(variantId);
+        if (buckets == 0) {
+            variant.setQuantity(stock);
+        } else {
+            variant.setQuantity(0);
+            productVariantRepository.createStockBuckets(variantId, stock, buckets);
+        }
+        variant.setStockBuckets(buckets);
 
         productVariantRepository.save(variant);
-        return toResponse(variant, resolveImageURIs(variant));
+        return toResponse(variant, resolveImageURIs(variant), stock);
     }
 
+    @CacheEvict(cacheNames = CacheNames.PRODUCT_VARIANT_SNAPSHOTS, key = "#variantId")
     @Transactional
     @Override
     public void deleteProductVariant(UUID variantId) {
@@ -97,19 +136,37 @@ public class ProductVariantServiceImpl implements ProductVariantService {
             variants = productVariantRepository.findAllActiveByProduct(productId);
         }
 
+        var stock = stockOf(variants);
         return variants.stream()
                 .map(v -> {
                     var imageURIs = resolveImageURIs(v);
-                    return toResponse(v, imageURIs);
+                    return toResponse(v, imageURIs, stock.get(v.getVariantId()));
                 })
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<UUID, List<ProductVariantResponse>> getVariantsByProducts(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) return Map.of();
+
+        // Same visibility rules as getVariantsByProduct
+        List<ProductVariant> variants = CurrentUser.doesUserHasRole(UserRole.SELLER)
+                ? productVariantRepository.findAllNonDeletedWithImagesByProducts(productIds)
+                : productVariantRepository.findAllActiveWithImagesByProducts(productIds);
+
+        // The product is a lazy proxy here, reading its ID does not hit the database
+        var stock = stockOf(variants);
+        return variants.stream().collect(Collectors.groupingBy(
+                v -> v.getProduct().getProductId(),
+                Collectors.mapping(v -> toResponse(v, resolveImageURIs(v), stock.get(v.getVariantId())), Collectors.toList())));
+    }
+
     @Transactional(readOnly = true)
     @Override
     public ProductVariantResponse getVariant(UUID variantId) {
         return productVariantRepository.findById(variantId)
-                .map(v -> toResponse(v, resolveImageURIs(v)))
+                .map(v -> toResponse(v, resolveImageURIs(v), stockOf(List.of(v)).get(variantId)))
                 .orElseThrow(() -> new ProductVariantNotFoundException(HttpStatus.NOT_FOUND, "Product not found by variant ID: " + variantId));
     }
 
@@ -128,12 +185,45 @@ public class ProductVariantServiceImpl implements ProductVariantService {
         return variant;
     }
 
-    private ProductVariantResponse toResponse(ProductVariant v, Set<String> imageURIs) {
+    /**
+     * Applies the new stock of a striped variant as a change to the stock its buckets held when the edit started.
+     * Bucket decrements do not bump the variant's version, so reservations made since then are kept rather
+     * than overwritten: the buckets are rebuilt from the stock they hold now, plus the change.
+     *
+     * @return the stock the buckets hold afterwards
+     */
+    private int adjustStockBuckets(ProductVariant variant, int requestedStock) {
+        UUID variantId = variant.getVariantId();
+        int delta = requestedStock - stockOf(List.of(variant)).get(variantId);
+        if (delta == 0) return requestedStock;
+
+        // Deleting the buckets waits for checkouts holding them
+        int stock = Math.max(0, productVariantRepository.removeStockBuckets(variantId) + delta);
+        productVariantRepository.createStockBuckets(variantId, stock, variant.getStockBuckets());
+        return stock;
+    }
+
+    /**
+     * Available stock by variant ID, striped variants are summed over their buckets in one query.
+     */
+    private Map<UUID, Integer> stockOf(List<ProductVariant> variants) {
+        Map<UUID, Integer> stock = new HashMap<>(variants.size());
+        variants.forEach(v -> stock.put(v.getVariantId(), v.getQuantity()));
+
+        var striped = variants.stream().filter(ProductVariant::isStockStriped).map(ProductVariant::getVariantId).toList();
+        if (!striped.isEmpty()) {
+            productVariantRepository.sumBucketStock(striped)
+                    .forEach(b -> stock.merge(b.getVariantId(), (int) b.getQuantity(), Integer::sum));
+        }
+        return stock;
+    }
+
+    private ProductVariantResponse toResponse(ProductVariant v, Set<String> imageURIs, int stock) {
         return new ProductVariantResponse(
                 v.getVariantId(),
                 v.getTitle(),
                 v.getPrice(),
-                v.getQuantity(),
+                stock,
                 v.getDescription(),
                 v.getLifecycleAudit().getCreatedDate(),
                 v.getLifecycleAudit().getLastModifiedDate(),
@@ -5,67 +5,145 @@ import com.donkie.quickcart.seller.adapters.dto.StoreSnapshot;
 import com.donkie.quickcart.seller.application.exception.ProductVariantNotFoundException;
 import com.donkie.quickcart.seller.application.exception.StoreNotFoundException;
 import com.donkie.quickcart.seller.application.service.contracts.ResourceSnapService;
+import com.donkie.quickcart.seller.domain.model.ProductVariant;
+import com.donkie.quickcart.seller.domain.model.Store;
 import com.donkie.quickcart.seller.domain.repository.ProductVariantRepository;
 import com.donkie.quickcart.seller.domain.repository.StoreRepository;
+import com.donkie.quickcart.shared.cache.CacheNames;
+import com.donkie.quickcart.shared.cache.CachedLookup;
 import com.donkie.quickcart.uploads.domain.model.ImageFile;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
 @Service
 @AllArgsConstructor
 public class ResourceSnapServiceImpl implements ResourceSnapService {
+    // Served from the 128px rendition once generated, the original until then
+    private static final int THUMBNAIL_WIDTH = 128;
+
     private final ProductVariantRepository variantRepository;
     private final StoreRepository storeRepository;
+    private final CacheManager cacheManager;
 
+    @Cacheable(cacheNames = CacheNames.PRODUCT_VARIANT_SNAPSHOTS, key = "#variantId")
     @Transactional
     @Override
     public ProductSnapshot getProductVariantSnapshot(UUID variantId) {
-        return variantRepository.findActiveById(variantId)
-                .map(pv -> {
-                    var product = pv.getProduct();
-                    var thumbnail = pv.getImages().stream().findFirst()
-                            .map(ImageFile::getImageId)
-                            .map(id -> "/api/v1/public/products/variants/images/" + id)
-                            .orElse(null);
-
-                    return new ProductSnapshot(
-                            product.getProductId(),
-                            pv.getVariantId(),
-                            product.getTitle(),
-                            pv.getTitle(),
-                            pv.getPrice(),
-                            thumbnail
-                    );
-                })
-                .orElseThrow(() -> new ProductVariantNotFoundException(HttpStatus.NOT_FOUND, "Product variant not found"));
+        return loadProductVariantSnapshots(Set.of(variantId)).getFirst();
     }
 
+    @Cacheable(cacheNames = CacheNames.STORE_SNAPSHOTS, key = "#storeId")
     @Transactional
     @Override
     public StoreSnapshot getStoreSnapshot(UUID storeId) {
         return storeRepository.findById(storeId)
-                .map(store -> {
-                    UUID id = null;
-                    try {
-                        id = UUID.fromString(store.getLifecycleAudit().getCreatedBy());
-                    } catch (Exception e) {
-                        log.error("Failed to parse store creator ID: {}", store.getLifecycleAudit().getCreatedBy(), e);
-                    }
-                    return new StoreSnapshot(
-                            store.getStoreId(),
-                            store.getName(),
-                            store.getLocation(),
-                            store.getContactNumber(),
-                            store.getEmail(),
-                            id
-                    );
-                })
+                .map(this::toStoreSnapshot)
                 .orElseThrow(() -> new StoreNotFoundException(HttpStatus.NOT_FOUND, "Store not found"));
     }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<ProductSnapshot> getProductVariantSnapshots(Collection<UUID> variantIds) {
+        if (variantIds.isEmpty()) return List.of();
+        return CachedLookup.getAll(
+                getCache(CacheNames.PRODUCT_VARIANT_SNAPSHOTS),
+                new HashSet<>(variantIds),
+                ProductSnapshot::variantId,
+                this::loadProductVariantSnapshots);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<ProductSnapshot> getCurrentProductVariantSnapshots(Collection<UUID> variantIds) {
+        if (variantIds.isEmpty()) return List.of();
+        return loadProductVariantSnapshots(new HashSet<>(variantIds));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<StoreSnapshot> getStoreSnapshots(Collection<UUID> storeIds) {
+        if (storeIds.isEmpty()) return List.of();
+        return CachedLookup.getAll(
+                getCache(CacheNames.STORE_SNAPSHOTS),
+                new HashSet<>(storeIds),
+                StoreSnapshot::storeId,
+                this::loadStoreSnapshots);
+    }
+
+    // ===================== Private Helpers =====================
+
+    private @NotNull List<ProductSnapshot> loadProductVariantSnapshots(Set<UUID> variantIds) {
+        var ids = new HashSet<>(variantIds);
+        var variants = variantRepository.findAllActiveWithProductAndImages(ids);
+        if (variants.size() != ids.size()) {
+            variants.forEach(pv -> ids.remove(pv.getVariantId()));
+            log.warn("Product variants not found or inactive: {}", ids);
+            throw new ProductVariantNotFoundException(HttpStatus.NOT_FOUND, "Product variant not found");
+        }
+        return variants.stream().map(this::toProductSnapshot).toList();
+    }
+
+    private @NotNull List<StoreSnapshot> loadStoreSnapshots(Set<UUID> storeIds) {
+        var ids = new HashSet<>(storeIds);
+        var stores = storeRepository.findByStoreIdIn(ids);
+        if (stores.size() != ids.size()) {
+            stores.forEach(store -> ids.remove(store.getStoreId()));
+            log.warn("Stores not found: {}", ids);
+            throw new StoreNotFoundException(HttpStatus.NOT_FOUND, "Store not found");
+        }
+        return stores.stream().map(this::toStoreSnapshot).toList();
+    }
+
+    private @NotNull Cache getCache(String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name), "Cache not configured: " + name);
+    }
+
+    private @NotNull ProductSnapshot toProductSnapshot(ProductVariant pv) {
+        var product = pv.getProduct();
+        var thumbnail = pv.getImages().stream().findFirst()
+                .map(ImageFile::getImageId)
+                .map(id -> "/api/v1/public/products/variants/images/" + id + "?w=" + THUMBNAIL_WIDTH)
+                .orElse(null);
+
+        return new ProductSnapshot(
+                product.getProductId(),
+                pv.getVariantId(),
+                product.getTitle(),
+                pv.getTitle(),
+                pv.getPrice(),
+                thumbnail
+        );
+    }
+
+    private @NotNull StoreSnapshot toStoreSnapshot(Store store) {
+        UUID id = null;
+        try {
+            id = UUID.fromString(store.getLifecycleAudit().getCreatedBy());
+        } catch (Exception e) {
+            log.error("Failed to parse store creator ID: {}", store.getLifecycleAudit().getCreatedBy(), e);
+        }
+        return new StoreSnapshot(
+                store.getStoreId(),
+                store.getName(),
+                store.getLocation(),
+                store.getContactNumber(),
+                store.getEmail(),
+                id
+        );
+    }
 }
@@ -0,0 +1,52 @@
+package com.donkie.quickcart.seller.infra.service;
+
+import com.donkie.quickcart.seller.domain.model.ProductVariant;
+import com.donkie.quickcart.seller.domain.repository.ProductVariantRepository;
+import com.donkie.quickcart.shared.cache.CacheNames;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Evicts seller snapshots that cannot be addressed by a single {@code @CacheEvict} key,
+ * e.g. every variant of a product whose title changed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SnapshotCacheEvictor {
+    private final CacheManager cacheManager;
+    private final ProductVariantRepository variantRepository;
+
+    public void evictVariants(Collection<UUID> variantIds) {
+        getCache(CacheNames.PRODUCT_VARIANT_SNAPSHOTS)
+                .ifPresent(cache -> variantIds.forEach(cache::evict));
+    }
+
+    public void evictVariantsOfProduct(UUID productId) {
+        evictVariants(variantRepository.findByProduct_ProductId(productId).stream()
+                .map(ProductVariant::getVariantId)
+                .toList());
+    }
+
+    /**
+     * Variants are keyed by their own ID, a store wide eviction therefore clears the variant cache.
+     * Store deletions are rare enough for that to be cheaper than resolving every variant of the store.
+     */
+    public void evictStore(UUID storeId) {
+        getCache(CacheNames.STORE_SNAPSHOTS).ifPresent(cache -> cache.evict(storeId));
+        getCache(CacheNames.PRODUCT_VARIANT_SNAPSHOTS).ifPresent(Cache::clear);
+    }
+
+    private Optional<Cache> getCache(String name) {
+        var cache = Optional.ofNullable(cacheManager.getCache(name));
+        if (cache.isEmpty()) log.warn("Cache not configured: {}", name);
+        return cache;
+    }
+}
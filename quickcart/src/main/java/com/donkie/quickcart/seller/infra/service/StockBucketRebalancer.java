@@ -0,0 +1,43 @@
+package com.donkie.quickcart.seller.infra.service;
+
+import com.donkie.quickcart.seller.domain.repository.ProductVariantRepository;
+import com.donkie.quickcart.seller.infra.config.StockBucketProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Evens out the buckets of striped variants. Checkouts drain random buckets, without rebalancing the last
+ * units end up scattered one per bucket and larger quantities fall back to locking every bucket.
+ * Each variant is rebalanced in its own short transaction, so checkouts wait on at most one variant.
+ */
+@Slf4j
+@Component
+public class StockBucketRebalancer {
+    private final ProductVariantRepository productVariantRepository;
+    private final StockBucketProperties properties;
+    private final TransactionTemplate transaction;
+
+    public StockBucketRebalancer(ProductVariantRepository productVariantRepository,
+                                 StockBucketProperties properties,
+                                 PlatformTransactionManager transactionManager) {
+        this.productVariantRepository = productVariantRepository;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.seller.stock-buckets.rebalance-interval-ms:10000}")
+    public void rebalance() {
+        var variantIds = productVariantRepository.findVariantsWithUnbalancedBuckets(properties.getRebalanceThreshold());
+        for (var variantId : variantIds) {
+            try {
+                transaction.executeWithoutResult(status -> productVariantRepository.rebalanceBuckets(variantId));
+            } catch (Exception e) {
+                log.warn("Failed to rebalance stock buckets of variant {}: {}", variantId, e.toString());
+            }
+        }
+        if (!variantIds.isEmpty()) log.debug("Rebalanced stock buckets of {} variants", variantIds.size());
+    }
+}
@@ -8,8 +8,11 @@ import com.donkie.quickcart.seller.application.service.contracts.ProductService;
 import com.donkie.quickcart.seller.application.service.contracts.StoreService;
 import com.donkie.quickcart.seller.domain.model.Store;
 import com.donkie.quickcart.seller.domain.repository.StoreRepository;
+import com.donkie.quickcart.shared.cache.CacheNames;
+import com.donkie.quickcart.shared.outbox.OutboxPublisher;
 import lombok.AllArgsConstructor;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -28,6 +31,7 @@ public class StoreServiceImpl implements StoreService {
     private final StoreRepository storeRepository;
     private final ProductService productService;
     private final ApplicationEventPublisher eventPublisher;
+    private final OutboxPublisher outboxPublisher;
 
     @Transactional
     @Override
@@ -44,6 +48,7 @@ public class StoreServiceImpl implements StoreService {
         return store.getStoreId();
     }
 
+    @CacheEvict(cacheNames = CacheNames.STORE_SNAPSHOTS, key = "#storeId")
     @Transactional
     @Override
     public StoreDetails updateStore(UUID storeId, StoreWrite write) {
@@ -73,8 +78,11 @@ public class StoreServiceImpl implements StoreService {
         store.getLifecycleAudit().setActive(false);
 
         storeRepository.save(store);
-        // Event orphans all products related to store (isOrphan = true).
-        eventPublisher.publishEvent(new StoreDeletedEvent(store.getStoreId()));
+        var event = new StoreDeletedEvent(store.getStoreId());
+        // Durable: orphans all products related to store (isOrphan = true), see StoreDeletionListener
+        outboxPublisher.publish(StoreDeletedEvent.TYPE, store.getStoreId(), event);
+        // In-process: evicts cached snapshots right after commit
+        eventPublisher.publishEvent(event);
     }
 
     @Override
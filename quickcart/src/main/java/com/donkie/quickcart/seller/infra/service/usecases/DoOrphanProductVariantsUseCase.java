@@ -17,15 +17,13 @@ public class DoOrphanProductVariantsUseCase {
     private final ProductRepository productRepository;
     private final ProductVariantRepository variantRepository;
 
+    /**
+     * Failures propagate once retries are exhausted, the outbox then schedules another attempt.
+     */
     @Transactional
-    @Retry(name = "dbRetry", fallbackMethod = "onFailure")
+    @Retry(name = "db-ops")
     public void execute(UUID productId) {
         int updated = variantRepository.markInactiveAndOrphanByProduct(productId);
         log.info("Marked {} variants inactive/orphan for product {}", updated, productId);
     }
-
-    @SuppressWarnings("unused")
-    public void onFailure(UUID productId, Throwable ex) {
-        log.error("dbRetry exhausted for product {}", productId, ex);
-    }
 }
@@ -1,25 +1,83 @@
 package com.donkie.quickcart.seller.infra.service.usecases;
 
+import com.donkie.quickcart.seller.application.exception.ReplicationLagExceededException;
+import com.donkie.quickcart.seller.domain.model.StoreOrphaningCheckpoint;
 import com.donkie.quickcart.seller.domain.repository.ProductRepository;
 import com.donkie.quickcart.seller.domain.repository.ProductVariantRepository;
+import com.donkie.quickcart.seller.domain.repository.StoreOrphaningCheckpointRepository;
+import com.donkie.quickcart.seller.infra.config.OrphaningProperties;
+import com.donkie.quickcart.shared.jpa.UuidKeyset;
 import io.github.resilience4j.retry.annotation.Retry;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
-@Service
-@AllArgsConstructor
+/**
+ * Marks every product and variant of a deleted store inactive and orphan.
+ * <p>
+ * In chunked mode (the default) products are walked in {@code product_id} order, each batch and its variants
+ * are updated and committed together with a {@link StoreOrphaningCheckpoint}, so row locks are short lived and
+ * a crashed or retried run continues after the last committed batch. Batches are paced by
+ * {@code app.seller.orphaning.batch-pause} and held back while the standbys lag behind.
+ */
 @Slf4j
+@Service
 public class DoOrphanProductsUseCase {
+    private static final Duration LAG_POLL_INTERVAL = Duration.ofSeconds(1);
+
     private final ProductRepository productRepository;
     private final ProductVariantRepository variantRepository;
+    private final StoreOrphaningCheckpointRepository checkpointRepository;
+    private final OrphaningProperties properties;
+    private final TransactionTemplate transaction;
 
-    @Transactional
-    @Retry(name = "dbRetry", fallbackMethod = "onFailure")
+    public DoOrphanProductsUseCase(ProductRepository productRepository,
+                                   ProductVariantRepository variantRepository,
+                                   StoreOrphaningCheckpointRepository checkpointRepository,
+                                   OrphaningProperties properties,
+                                   PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.variantRepository = variantRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Transient database errors are retried, other failures and {@link ReplicationLagExceededException} propagate
+     * and the outbox schedules another attempt.
+     */
+    @Retry(name = "db-ops")
     public void execute(UUID storeId) {
+        if (properties.isChunked()) {
+            executeChunked(storeId);
+        } else {
+            transaction.executeWithoutResult(status -> executeInOneTransaction(storeId));
+        }
+    }
+
+    /**
+     * Deletes checkpoints of runs completed longer than {@code app.seller.orphaning.checkpoint-retention} ago,
+     * a redelivered event within that window finds its run completed.
+     */
+    @Scheduled(cron = "0 45 * * * *") // hourly
+    public void purgeCompletedCheckpoints() {
+        int deleted = checkpointRepository.deleteCompletedBefore(Instant.now().minus(properties.getCheckpointRetention()));
+        if (deleted > 0) log.info("Purged {} completed store orphaning checkpoints", deleted);
+    }
+
+    // ===================== Private Helpers =====================
+
+    private void executeInOneTransaction(UUID storeId) {
         int productsUpdated = productRepository.markInactiveAndOrphanByStore(storeId);
         log.info("Marked {} products inactive/orphan for store {}", productsUpdated, storeId);
 
@@ -27,9 +85,73 @@ public class DoOrphanProductsUseCase {
         log.info("Marked {} product_variants inactive/orphan for store {}", variantsUpdated, storeId);
     }
 
-    @SuppressWarnings("unused")
-    public void onFailure(UUID storeId, Throwable ex) {
-        log.error("dbRetry exhausted for store {}", storeId, ex);
-        // TODO: Future - persist failure to a 'failed_jobs' table or alert;
+    private void executeChunked(UUID storeId) {
+        var checkpoint = Objects.requireNonNull(transaction.execute(status -> checkpointRepository.findById(storeId)
+                .orElseGet(() -> checkpointRepository.save(StoreOrphaningCheckpoint.start(storeId)))));
+        if (checkpoint.isCompleted()) {
+            log.info("Products of store {} already orphaned on {}", storeId, checkpoint.getCompletedDate());
+            return;
+        }
+        if (checkpoint.getLastProductId() != null) {
+            log.info("Resuming orphaning of store {} after {} batches ({} products)",
+                    storeId, checkpoint.getBatches(), checkpoint.getProductsOrphaned());
+        }
+
+        do {
+            awaitReplicas(storeId);
+            checkpoint = Objects.requireNonNull(transaction.execute(status -> orphanNextBatch(storeId)));
+            if (!checkpoint.isCompleted()) pause(properties.getBatchPause());
+        } while (!checkpoint.isCompleted());
+
+        log.info("Marked {} products and {} product_variants inactive/orphan for store {} in {} batches",
+                checkpoint.getProductsOrphaned(), checkpoint.getVariantsOrphaned(), storeId, checkpoint.getBatches());
+    }
+
+    /**
+     * Updates the products following the checkpoint, then their variants, and advances the checkpoint in the
+     * same transaction. A batch shorter than the batch size is the last one.
+     */
+    private StoreOrphaningCheckpoint orphanNextBatch(UUID storeId) {
+        var checkpoint = checkpointRepository.findById(storeId).orElseThrow();
+        UUID after = Objects.requireNonNullElse(checkpoint.getLastProductId(), UuidKeyset.FIRST_ID);
+        List<UUID> productIds = productRepository.findProductIdsByStoreAfter(storeId, after, properties.getBatchSize());
+
+        if (!productIds.isEmpty()) {
+            // Products first, the variant search trigger then skips re-indexing them (V19)
+            int products = productRepository.markInactiveAndOrphanByIds(productIds);
+            int variants = variantRepository.markInactiveAndOrphanByProducts(productIds);
+            checkpoint.advance(productIds.getLast(), products, variants);
+            log.debug("Store {} batch {}: {} products, {} variants orphaned",
+                    storeId, checkpoint.getBatches(), products, variants);
+        }
+        if (productIds.size() < properties.getBatchSize()) checkpoint.complete();
+
+        // The bulk updates clear the persistence context, the checkpoint is detached by now
+        return checkpointRepository.save(checkpoint);
+    }
+
+    private void awaitReplicas(UUID storeId) {
+        double maxLagSeconds = properties.getMaxReplicationLag().toMillis() / 1000.0;
+        Instant giveUpAt = Instant.now().plus(properties.getMaxLagWait());
+
+        double lag;
+        while ((lag = checkpointRepository.findMaxReplicationLagSeconds()) > maxLagSeconds) {
+            if (Instant.now().isAfter(giveUpAt)) {
+                throw new ReplicationLagExceededException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Replication lag of %.1fs did not recover, orphaning of store %s paused".formatted(lag, storeId));
+            }
+            log.debug("Replication lag {}s above {}s, holding back orphaning of store {}", lag, maxLagSeconds, storeId);
+            pause(LAG_POLL_INTERVAL);
+        }
+    }
+
+    private static void pause(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) return;
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while orphaning products", e);
+        }
     }
 }
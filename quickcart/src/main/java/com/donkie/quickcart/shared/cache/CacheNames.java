@@ -0,0 +1,14 @@
+package com.donkie.quickcart.shared.cache;
+
+/**
+ * Names of the caches registered in {@link com.donkie.quickcart.shared.config.CacheConfig}.
+ * Every name here must have a matching entry under {@code app.caching.caches}.
+ */
+public final class CacheNames {
+    public static final String PRODUCT_VARIANT_SNAPSHOTS = "product-variant-snapshots";
+    public static final String STORE_SNAPSHOTS = "store-snapshots";
+    public static final String USER_SNAPSHOTS = "user-snapshots";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,41 @@
+package com.donkie.quickcart.shared.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bulk counterpart of {@code @Cacheable}: serves what it can from the cache and loads
+ * only the missing keys in a single call.
+ */
+public final class CachedLookup {
+
+    private CachedLookup() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> List<V> getAll(Cache cache,
+                                        Set<K> keys,
+                                        Function<V, K> keyOf,
+                                        Function<Set<K>, List<V>> loader) {
+        List<V> values = new ArrayList<>(keys.size());
+        Set<K> misses = new HashSet<>();
+
+        for (K key : keys) {
+            var hit = cache.get(key);
+            if (hit != null) values.add((V) hit.get());
+            else misses.add(key);
+        }
+
+        if (!misses.isEmpty()) {
+            var loaded = loader.apply(misses);
+            loaded.forEach(value -> cache.put(keyOf.apply(value), value));
+            values.addAll(loaded);
+        }
+        return values;
+    }
+}
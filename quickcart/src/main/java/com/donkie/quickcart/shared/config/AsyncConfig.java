@@ -1,21 +1,52 @@
 package com.donkie.quickcart.shared.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
+@Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig {
+
+    /**
+     * Runs the {@code @Async("eventExecutor")} listeners.
+     * <p>
+     * With virtual threads every event gets its own thread, the concurrency limit makes publishers wait once
+     * the limit is reached. With platform threads a fixed pool is used, and a full queue makes the publisher
+     * run the listener itself instead of rejecting the event. Either way, events are never dropped.
+     */
     @Bean(name = "eventExecutor")
-    public Executor eventExecutor() {
+    public Executor eventExecutor(Environment environment,
+                                  ThreadingProperties threadingProperties,
+                                  @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        var events = threadingProperties.getEvents();
+        int concurrency = events.getConcurrency() > 0
+                ? events.getConcurrency()
+                : Math.max(2, connectionPoolSize / 2);
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Event executor on virtual threads, concurrency limit {}", concurrency);
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("events-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(concurrency);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor t = new ThreadPoolTaskExecutor();
-        t.setCorePoolSize(4);
-        t.setMaxPoolSize(8);
-        t.setQueueCapacity(50);
+        t.setCorePoolSize(concurrency);
+        t.setMaxPoolSize(concurrency);
+        t.setQueueCapacity(events.getQueueCapacity());
+        t.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         t.setThreadNamePrefix("events-");
         t.initialize();
         return t;
@@ -0,0 +1,43 @@
+package com.donkie.quickcart.shared.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableCaching
+@RequiredArgsConstructor
+public class CacheConfig {
+    private final CachingProperties cachingProperties;
+
+    /**
+     * Only the caches declared under {@code app.caching.caches} exist, each bounded by its own
+     * size and TTL. Stats are recorded so the caches show up in the Prometheus scrape.
+     * <p>
+     * Puts and evictions issued inside a transaction are applied after commit, so readers stop
+     * getting the pre-update state once it is committed. A read that loaded the old state before
+     * the commit can still put it back afterwards, the TTL bounds how long such an entry lives.
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        var manager = new CaffeineCacheManager();
+        manager.setAllowNullValues(false);
+        manager.setCacheNames(List.of()); // no dynamic caches
+
+        cachingProperties.getCaches().forEach((name, spec) -> manager.registerCustomCache(name,
+                Caffeine.newBuilder()
+                        .maximumSize(spec.getMaximumSize())
+                        .expireAfterWrite(spec.getExpireAfterWrite())
+                        .recordStats()
+                        .build()));
+
+        return new TransactionAwareCacheManagerProxy(manager);
+    }
+}
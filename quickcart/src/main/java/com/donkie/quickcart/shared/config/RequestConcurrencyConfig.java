@@ -0,0 +1,40 @@
+package com.donkie.quickcart.shared.config;
+
+import com.donkie.quickcart.shared.http.RequestConcurrencyFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Bounds request concurrency when Tomcat runs on virtual threads, platform threads are bounded by the
+ * Tomcat pool already.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class RequestConcurrencyConfig {
+
+    /**
+     * Registered ahead of the security chain, so a rejected request costs no token validation either.
+     */
+    @Bean
+    public FilterRegistrationBean<RequestConcurrencyFilter> requestConcurrencyFilter(
+            ThreadingProperties threadingProperties,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        var requests = threadingProperties.getRequests();
+        int concurrency = requests.getConcurrency() > 0
+                ? requests.getConcurrency()
+                : connectionPoolSize * 2;
+        log.info("Request concurrency limit {}, acquire timeout {}", concurrency, requests.getAcquireTimeout());
+
+        var registration = new FilterRegistrationBean<>(
+                new RequestConcurrencyFilter(concurrency, requests.getAcquireTimeout()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
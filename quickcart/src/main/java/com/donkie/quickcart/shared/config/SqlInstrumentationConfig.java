@@ -0,0 +1,45 @@
+package com.donkie.quickcart.shared.config;
+
+import com.donkie.quickcart.shared.observability.EntityLoadCounter;
+import com.donkie.quickcart.shared.observability.JdbcTimingSessionListener;
+import com.donkie.quickcart.shared.observability.RequestSqlMetricsInterceptor;
+import com.donkie.quickcart.shared.observability.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Wires the per-request SQL instrumentation: Hibernate hooks collect, the MVC interceptor records and exports.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.observability.sql", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SqlInstrumentationConfig implements WebMvcConfigurer {
+    private final MeterRegistry meterRegistry;
+    private final SqlInstrumentationProperties properties;
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlInstrumentationHibernateCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingSessionListener.class.getName());
+            hibernateProperties.put(JpaSettings.INTEGRATOR_PROVIDER,
+                    (IntegratorProvider) () -> List.of(new EntityLoadCounter()));
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestSqlMetricsInterceptor(meterRegistry, properties));
+    }
+}
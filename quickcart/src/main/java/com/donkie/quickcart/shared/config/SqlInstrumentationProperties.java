@@ -0,0 +1,22 @@
+package com.donkie.quickcart.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.observability.sql")
+@Getter
+@Setter
+public class SqlInstrumentationProperties {
+    /**
+     * Per-request SQL statement, JDBC time and entity load metrics.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Requests issuing more statements than this are logged as warnings, 0 disables the warning.
+     */
+    private int queryBudget = 50;
+}
@@ -0,0 +1,52 @@
+package com.donkie.quickcart.shared.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Concurrency of the application's own executors. Whether they run on virtual threads follows
+ * {@code spring.threads.virtual.enabled}, like Tomcat and the scheduler.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.threads")
+@Getter
+@Setter
+public class ThreadingProperties {
+    private Events events = new Events();
+    private Requests requests = new Requests();
+
+    @Getter
+    @Setter
+    public static class Events {
+        /**
+         * Max listeners running at once, 0 derives it from the connection pool (half of it) so async
+         * listeners always leave connections for requests.
+         */
+        private int concurrency = 0;
+
+        /**
+         * Platform thread mode only, events queued before the publishing thread runs the listener itself.
+         */
+        private int queueCapacity = 500;
+    }
+
+    @Getter
+    @Setter
+    public static class Requests {
+        /**
+         * Virtual thread mode only, max requests handled at once, 0 derives it from the connection pool (twice
+         * its size) so requests queue at the door instead of piling up on connection waits.
+         */
+        private int concurrency = 0;
+
+        /**
+         * How long a request waits for a slot before it is answered with 503, kept well under the pool's
+         * connection timeout.
+         */
+        private Duration acquireTimeout = Duration.ofSeconds(2);
+    }
+}
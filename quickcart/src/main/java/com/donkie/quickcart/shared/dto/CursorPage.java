@@ -0,0 +1,43 @@
+package com.donkie.quickcart.shared.dto;
+
+import com.donkie.quickcart.shared.jpa.SeekCursor;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cursor based counterpart of {@link PageContainer}, for listings scrolled with a {@link SeekCursor}.
+ *
+ * @param nextCursor    cursor of the following page, {@code null} on the last page
+ * @param totalElements number of matching rows, {@code null} unless the client asked for it
+ */
+public record CursorPage<T>(
+        @JsonProperty("size") int size,
+        @JsonProperty("next_cursor") String nextCursor,
+        @JsonProperty("has_next") boolean hasNext,
+        @JsonProperty("total_elements") Long totalElements,
+        @JsonProperty("content") List<T> content
+) {
+    public static <T> CursorPage<T> empty(int size, Long totalElements) {
+        return new CursorPage<>(size, null, false, totalElements, List.of());
+    }
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}, the extra row only tells whether
+     * a following page exists and is not returned.
+     *
+     * @param keyOf     seek key of a row
+     * @param toContent maps the rows of the page to the response content
+     */
+    public static <E, T> CursorPage<T> fromRows(List<E> rows,
+                                                int size,
+                                                Function<E, SeekCursor> keyOf,
+                                                Function<List<E>, List<T>> toContent,
+                                                Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? keyOf.apply(pageRows.getLast()).encode() : null;
+        return new CursorPage<>(size, nextCursor, hasNext, totalElements, toContent.apply(pageRows));
+    }
+}
@@ -0,0 +1,13 @@
+package com.donkie.quickcart.shared.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends QuickcartBaseException {
+    public InvalidCursorException(HttpStatus status, String message) {
+        super(status, message);
+    }
+
+    public InvalidCursorException(HttpStatus status, String message, Throwable cause) {
+        super(status, message, cause);
+    }
+}
@@ -0,0 +1,74 @@
+package com.donkie.quickcart.shared.http;
+
+import org.springframework.http.CacheControl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Cache-Control policies and strong ETags shared by the public read endpoints.
+ * <p>
+ * ETags are derived from content or from immutable identifiers, never from node local state, so every node
+ * behind the load balancer hands out the same tag for the same representation.
+ */
+public final class HttpCaching {
+
+    /**
+     * For content that never changes under its URL, such as image bytes addressed by image ID.
+     */
+    public static final CacheControl IMMUTABLE = CacheControl
+            .maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable();
+
+    /**
+     * For public data that changes rarely, clients keep a copy but revalidate it with {@code If-None-Match}.
+     */
+    public static final CacheControl REVALIDATE = CacheControl
+            .noCache()
+            .cachePublic();
+
+    private HttpCaching() {
+    }
+
+    /**
+     * @return a strong, quoted ETag for an immutable identifier
+     */
+    public static String eTagOf(Object id) {
+        return "\"" + id + "\"";
+    }
+
+    /**
+     * @return a strong, quoted ETag from a SHA-256 digest of the content's string form
+     */
+    public static String digestETag(Object content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(String.valueOf(content).getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Weak comparison as RFC 9110 requires for {@code If-None-Match}.
+     *
+     * @param ifNoneMatch HTTP {@code If-None-Match} header, may be null or a list of tags
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) return false;
+        String opaque = stripWeak(eTag);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(tag -> tag.equals("*") || stripWeak(tag).equals(opaque));
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,68 @@
+package com.donkie.quickcart.shared.http;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the requests handled at once. With virtual threads Tomcat accepts every request, so without a cap
+ * overload turns into every request waiting on the connection pool and failing on its timeout. Requests over
+ * the cap wait briefly for a slot and are then answered with 503 and {@code Retry-After}.
+ */
+@Slf4j
+public class RequestConcurrencyFilter extends OncePerRequestFilter {
+    private final Semaphore slots;
+    private final Duration acquireTimeout;
+
+    public RequestConcurrencyFilter(int concurrency, Duration acquireTimeout) {
+        this.slots = new Semaphore(concurrency, true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = slots.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            log.warn("Request concurrency limit reached, rejecting {} {}", request.getMethod(), request.getRequestURI());
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType("application/json");
+            response.getWriter().write(
+                    "{\"error\":\"Service busy\",\"message\":\"Too many requests in flight, please retry\"}"
+            );
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            slots.release();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Health checks and scrapes must get through an overloaded node
+        return request.getRequestURI().startsWith("/actuator/");
+    }
+}
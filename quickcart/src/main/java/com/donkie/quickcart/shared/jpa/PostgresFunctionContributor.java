@@ -0,0 +1,23 @@
+package com.donkie.quickcart.shared.jpa;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers PostgreSQL operators that have no HQL / Criteria equivalent, so Specifications can use them.
+ * Registered through {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ */
+public class PostgresFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        var booleanType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.BOOLEAN);
+
+        // pg_trgm similarity operator, true when similarity exceeds pg_trgm.similarity_threshold (0.3 by default)
+        functionContributions.getFunctionRegistry()
+                .registerPattern("trgm_similar", "(?1 % ?2)", booleanType);
+    }
+}
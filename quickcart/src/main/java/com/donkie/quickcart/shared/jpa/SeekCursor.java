@@ -0,0 +1,43 @@
+package com.donkie.quickcart.shared.jpa;
+
+import com.donkie.quickcart.shared.exception.InvalidCursorException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Position in a listing ordered by {@code (timestamp DESC, id DESC)}, the key of the last row of the previous page.
+ * <p>
+ * Clients only ever see the opaque {@link #encode() encoded} form, the next page is everything strictly
+ * after this key, so a page costs the same no matter how deep it is.
+ */
+public record SeekCursor(Instant timestamp, UUID id) {
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = timestamp.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor the encoded cursor, {@code null} or blank for the first page
+     * @return the decoded position, empty for the first page
+     * @throws InvalidCursorException if the cursor was not produced by {@link #encode()}
+     */
+    public static Optional<SeekCursor> decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return Optional.empty();
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return Optional.of(new SeekCursor(
+                    Instant.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(HttpStatus.BAD_REQUEST, "Invalid page cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.donkie.quickcart.shared.jpa;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Generates the identifier as a time ordered UUID (version 7), see {@link TimeOrderedUuidGenerator}.
+ * Use instead of {@code @GeneratedValue(strategy = GenerationType.UUID)} on insert heavy tables.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedUuid {
+}
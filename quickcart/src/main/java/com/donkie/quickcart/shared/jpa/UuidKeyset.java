@@ -0,0 +1,17 @@
+package com.donkie.quickcart.shared.jpa;
+
+import java.util.UUID;
+
+/**
+ * Bounds for walking a table in UUID primary key order ({@code WHERE id > :after ORDER BY id}).
+ */
+public final class UuidKeyset {
+
+    /**
+     * Lowest UUID in PostgreSQL's byte wise ordering, a walk starts after it.
+     */
+    public static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private UuidKeyset() {
+    }
+}
@@ -0,0 +1,31 @@
+package com.donkie.quickcart.shared.observability;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Measures the time spent executing JDBC statements and batches. Hibernate creates one instance per session,
+ * a session is confined to a single thread.
+ */
+public class JdbcTimingSessionListener implements SessionEventListener {
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestSqlStats.jdbcExecuted(System.nanoTime() - executionStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestSqlStats.jdbcExecuted(System.nanoTime() - executionStart);
+    }
+}
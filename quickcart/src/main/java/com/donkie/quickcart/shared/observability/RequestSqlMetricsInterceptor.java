@@ -0,0 +1,86 @@
+package com.donkie.quickcart.shared.observability;
+
+import com.donkie.quickcart.shared.config.SqlInstrumentationProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the SQL work of every controller invocation, tagged by route and controller method:
+ * <ul>
+ *     <li>{@code quickcart.request.sql.statements} statements prepared</li>
+ *     <li>{@code quickcart.request.sql.time} time spent executing JDBC statements</li>
+ *     <li>{@code quickcart.request.entities.loaded} entities hydrated</li>
+ * </ul>
+ * and warns about requests exceeding the configured statement budget. Queries issued by servlet filters
+ * (e.g. the revoked token check) run before the handler and are not included. For async handlers
+ * (e.g. streamed images) the work up to the handler's return is recorded, the async dispatch is skipped.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RequestSqlMetricsInterceptor implements AsyncHandlerInterceptor {
+    private final MeterRegistry meterRegistry;
+    private final SqlInstrumentationProperties properties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+            RequestSqlStats.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        afterCompletion(request, response, handler, null);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) return;
+        var stats = RequestSqlStats.end();
+        if (stats == null) return;
+
+        String route = String.valueOf(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+        String method = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+
+        DistributionSummary.builder("quickcart.request.sql.statements")
+                .description("SQL statements issued per request")
+                .tag("route", route)
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.statements());
+        Timer.builder("quickcart.request.sql.time")
+                .description("Time spent executing JDBC statements per request")
+                .tag("route", route)
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.jdbcNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("quickcart.request.entities.loaded")
+                .description("Entities loaded per request")
+                .tag("route", route)
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.entitiesLoaded());
+
+        int budget = properties.getQueryBudget();
+        if (budget > 0 && stats.statements() > budget) {
+            log.warn("Request {} {} ({}) issued {} SQL statements, over the budget of {} ({} ms in JDBC, {} entities loaded)",
+                    request.getMethod(), route, method, stats.statements(), budget,
+                    TimeUnit.NANOSECONDS.toMillis(stats.jdbcNanos()), stats.entitiesLoaded());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.donkie.quickcart.shared.observability;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQL work done by the current request, collected on the request thread by the Hibernate hooks, and on the
+ * threads of tasks the request fans out through {@link #propagate(Callable)}.
+ * <p>
+ * Collection only happens between {@link #begin()} and {@link #end()}, work done outside a request
+ * (jobs, async listeners) is not attributed to anything.
+ */
+public final class RequestSqlStats {
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong jdbcNanos = new AtomicLong();
+    private final AtomicInteger entitiesLoaded = new AtomicInteger();
+
+    private RequestSqlStats() {}
+
+    public static void begin() {
+        CURRENT.set(new RequestSqlStats());
+    }
+
+    /**
+     * @return the stats of the request, {@code null} if {@link #begin()} was not called on this thread
+     */
+    public static RequestSqlStats end() {
+        var stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    /**
+     * Binds the stats of the calling thread's request to the task, for work handed to another thread.
+     * Returns the task as is outside a request.
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        var stats = CURRENT.get();
+        if (stats == null) return task;
+        return () -> {
+            var previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                return task.call();
+            } finally {
+                if (previous == null) CURRENT.remove();
+                else CURRENT.set(previous);
+            }
+        };
+    }
+
+    static void statementPrepared() {
+        var stats = CURRENT.get();
+        if (stats != null) stats.statements.incrementAndGet();
+    }
+
+    static void jdbcExecuted(long nanos) {
+        var stats = CURRENT.get();
+        if (stats != null) stats.jdbcNanos.addAndGet(nanos);
+    }
+
+    static void entityLoaded() {
+        var stats = CURRENT.get();
+        if (stats != null) stats.entitiesLoaded.incrementAndGet();
+    }
+
+    public int statements() {
+        return statements.get();
+    }
+
+    public long jdbcNanos() {
+        return jdbcNanos.get();
+    }
+
+    public int entitiesLoaded() {
+        return entitiesLoaded.get();
+    }
+}
@@ -0,0 +1,15 @@
+package com.donkie.quickcart.shared.observability;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every SQL statement Hibernate prepares, the SQL itself is left untouched.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestSqlStats.statementPrepared();
+        return sql;
+    }
+}
@@ -0,0 +1,98 @@
+package com.donkie.quickcart.shared.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "outbox_event")
+@Getter
+@Setter
+public class OutboxEvent {
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "event_id", nullable = false, updatable = false)
+    private UUID eventId;
+
+    @Column(name = "event_type", nullable = false, updatable = false)
+    private String eventType;
+
+    @Column(name = "aggregate_id", nullable = false, updatable = false)
+    private UUID aggregateId;
+
+    // JSON of the event record
+    @Column(name = "payload", nullable = false, updatable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "available_at", nullable = false)
+    private Instant availableAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "created_date", nullable = false, updatable = false)
+    private Instant createdDate;
+
+    @Column(name = "processed_date")
+    private Instant processedDate;
+
+    // Bumped by every claim, the outcome of a poller whose lease ran out and was re-claimed is rejected
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    public static OutboxEvent create(String eventType, UUID aggregateId, String payload) {
+        var now = Instant.now();
+        OutboxEvent event = new OutboxEvent();
+        event.setEventType(eventType);
+        event.setAggregateId(aggregateId);
+        event.setPayload(payload);
+        event.setStatus(OutboxStatus.PENDING);
+        event.setAvailableAt(now);
+        event.setCreatedDate(now);
+        return event;
+    }
+
+    /**
+     * Leases the event to the current poller, other pollers skip it until the lease runs out.
+     */
+    public void claim(Duration lease) {
+        this.status = OutboxStatus.PROCESSING;
+        this.availableAt = Instant.now().plus(lease);
+    }
+
+    public void markProcessed() {
+        this.attempts++;
+        this.status = OutboxStatus.PROCESSED;
+        this.processedDate = Instant.now();
+        this.lastError = null;
+    }
+
+    /**
+     * Schedules the next attempt after {@code retryAfter}, or gives up once {@code maxAttempts} is reached.
+     */
+    public void markAttemptFailed(Throwable error, Duration retryAfter, int maxAttempts) {
+        this.attempts++;
+        String message = error.getClass().getName() + ": " + error.getMessage();
+        this.lastError = message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+        if (attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+        } else {
+            this.status = OutboxStatus.PENDING;
+            this.availableAt = Instant.now().plus(retryAfter);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.donkie.quickcart.shared.outbox;
+
+/**
+ * Processes one type of outbox event. Delivery is at least once, handlers must be idempotent.
+ * Throwing makes the event retried later with backoff.
+ *
+ * @param <E> the event record, deserialized from the stored payload
+ */
+public interface OutboxEventHandler<E> {
+
+    String eventType();
+
+    Class<E> payloadType();
+
+    void handle(E event);
+}
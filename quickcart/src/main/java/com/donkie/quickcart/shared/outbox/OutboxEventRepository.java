@@ -0,0 +1,41 @@
+package com.donkie.quickcart.shared.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    /**
+     * Locks a batch of due events, pending ones and those whose lease ran out. Rows locked by other replicas are
+     * skipped rather than waited on. Must run inside a transaction, the locks are held until it ends.
+     */
+    @Query(value = """
+            SELECT * FROM outbox_event
+            WHERE status IN ('PENDING', 'PROCESSING')
+              AND available_at <= now()
+            ORDER BY created_date
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> claimBatch(@Param("limit") int limit);
+
+    long countByStatusIn(Collection<OutboxStatus> statuses);
+
+    /**
+     * Oldest event not processed yet, leased ones included: a stuck lease is backlog too.
+     */
+    @Query("SELECT MIN(e.createdDate) FROM OutboxEvent e WHERE e.status IN ('PENDING', 'PROCESSING')")
+    Optional<Instant> findOldestPendingCreatedDate();
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = 'PROCESSED' AND e.processedDate < :before")
+    int deleteProcessedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,194 @@
+package com.donkie.quickcart.shared.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Processes the outbox. Every replica polls, {@code FOR UPDATE SKIP LOCKED} hands each event to exactly one of them.
+ * <p>
+ * A batch is claimed in a short transaction that leases it ({@code PROCESSING} until {@code app.outbox.lease})
+ * and commits, so no row lock is held while handlers run. Each handler runs outside any transaction and opens its
+ * own, and each outcome is recorded in a transaction of its own, so one failing event does not affect the others.
+ * Events of a poller that died are claimed again once their lease runs out, the version bumped by that claim
+ * rejects a late outcome of the slow poller.
+ * Failed events are retried with exponential backoff until {@code app.outbox.max-attempts}, then parked as FAILED.
+ * <p>
+ * Metrics: {@code quickcart.outbox.events{type,result}}, {@code quickcart.outbox.lag{type}} (commit to
+ * processing), {@code quickcart.outbox.pending} and {@code quickcart.outbox.oldest.pending.age}.
+ */
+@Slf4j
+@Component
+public class OutboxPoller {
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, OutboxEventHandler<?>> handlers;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate handlerTransaction;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    public OutboxPoller(OutboxEventRepository outboxEventRepository,
+                        OutboxProperties properties,
+                        ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry,
+                        List<OutboxEventHandler<?>> handlers,
+                        PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(OutboxEventHandler::eventType, Function.identity()));
+
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.handlerTransaction = new TransactionTemplate(transactionManager);
+        this.handlerTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+
+        Gauge.builder("quickcart.outbox.pending", pending, AtomicLong::get)
+                .description("Outbox events waiting to be processed or being processed")
+                .register(meterRegistry);
+        Gauge.builder("quickcart.outbox.oldest.pending.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("Age in seconds of the oldest pending or processing outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        List<OutboxEvent> batch;
+        do {
+            batch = Objects.requireNonNull(transaction.execute(status -> claimBatch()));
+            batch.forEach(this::process);
+        } while (batch.size() == properties.getBatchSize());
+
+        refreshBacklog();
+    }
+
+    /**
+     * Deletes processed events older than {@code app.outbox.retention}, failed ones are kept for inspection.
+     */
+    @Scheduled(cron = "0 15 * * * *") // hourly
+    @Transactional
+    public void purgeProcessed() {
+        int deleted = outboxEventRepository.deleteProcessedBefore(Instant.now().minus(properties.getRetention()));
+        if (deleted > 0) log.info("Purged {} processed outbox events", deleted);
+    }
+
+    // ===================== Private Helpers =====================
+
+    /**
+     * Locks the due events and leases them, the locks are released when the lease commits.
+     */
+    private List<OutboxEvent> claimBatch() {
+        var batch = outboxEventRepository.claimBatch(properties.getBatchSize());
+        batch.forEach(event -> event.claim(properties.getLease()));
+        return batch;
+    }
+
+    private void process(OutboxEvent event) {
+        try {
+            handlerTransaction.executeWithoutResult(status -> dispatch(event));
+            event.markProcessed();
+            record(event);
+            count(event, "processed");
+            Timer.builder("quickcart.outbox.lag")
+                    .description("Time from an outbox event being recorded to being processed")
+                    .tag("type", event.getEventType())
+                    .register(meterRegistry)
+                    .record(Duration.between(event.getCreatedDate(), event.getProcessedDate()));
+        } catch (Exception e) {
+            event.markAttemptFailed(e, backoff(event.getAttempts()), properties.getMaxAttempts());
+            record(event);
+            if (event.getStatus() == OutboxStatus.FAILED) {
+                log.error("Outbox event {} ({}) failed {} times, giving up", event.getEventId(), event.getEventType(), event.getAttempts(), e);
+                count(event, "dead");
+            } else {
+                log.warn("Outbox event {} ({}) failed, attempt {}: {}", event.getEventId(), event.getEventType(), event.getAttempts(), e.toString());
+                count(event, "failed");
+            }
+        }
+    }
+
+    /**
+     * Writes the outcome of the detached event. A failed write leaves the event leased, it is processed again once
+     * the lease runs out. The write is checked against the version of the claim, so once the lease ran out and
+     * another poller claimed the event, this outcome is dropped rather than overwriting that claim.
+     */
+    private void record(OutboxEvent event) {
+        try {
+            transaction.executeWithoutResult(status -> outboxEventRepository.save(event));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("Outbox event {} ({}) was claimed again after its lease ran out, dropping this outcome",
+                    event.getEventId(), event.getEventType());
+        } catch (Exception e) {
+            log.error("Failed to record the outcome of outbox event {} ({})", event.getEventId(), event.getEventType(), e);
+        }
+    }
+
+    private void dispatch(OutboxEvent event) {
+        var handler = handlers.get(event.getEventType());
+        if (handler == null) {
+            throw new IllegalStateException("No outbox handler for event type " + event.getEventType());
+        }
+        handle(handler, event);
+    }
+
+    private <E> void handle(OutboxEventHandler<E> handler, OutboxEvent event) {
+        try {
+            handler.handle(objectMapper.readValue(event.getPayload(), handler.payloadType()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable payload of outbox event " + event.getEventId(), e);
+        }
+    }
+
+    /**
+     * Backoff before the next attempt, {@code attempts} being the attempts made before the one that just failed.
+     */
+    private Duration backoff(int attempts) {
+        var backoff = properties.getRetryBackoff().multipliedBy(1L << Math.min(attempts, 20));
+        return backoff.compareTo(properties.getMaxRetryBackoff()) > 0 ? properties.getMaxRetryBackoff() : backoff;
+    }
+
+    private void count(OutboxEvent event, String result) {
+        Counter.builder("quickcart.outbox.events")
+                .tag("type", event.getEventType())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void refreshBacklog() {
+        try {
+            pending.set(outboxEventRepository.countByStatusIn(List.of(OutboxStatus.PENDING, OutboxStatus.PROCESSING)));
+            oldestPendingAgeSeconds.set(outboxEventRepository.findOldestPendingCreatedDate()
+                    .map(oldest -> Duration.between(oldest, Instant.now()).toSeconds())
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.debug("Failed to refresh outbox backlog metrics", e);
+        }
+    }
+}
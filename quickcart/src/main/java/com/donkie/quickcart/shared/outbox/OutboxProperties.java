@@ -0,0 +1,44 @@
+package com.donkie.quickcart.shared.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+@Getter
+@Setter
+public class OutboxProperties {
+    /**
+     * Events claimed per transaction.
+     */
+    private int batchSize = 50;
+
+    /**
+     * Delay between polls when the outbox is drained, in milliseconds.
+     */
+    private long pollIntervalMs = 1_000;
+
+    /**
+     * How long a claimed batch is reserved for the poller that claimed it, events still PROCESSING after that are
+     * claimed again (the poller died). Must exceed the time a batch takes to process.
+     */
+    private Duration lease = Duration.ofMinutes(10);
+
+    private int maxAttempts = 10;
+
+    /**
+     * Delay before the first retry, doubled on each further attempt up to {@link #maxRetryBackoff}.
+     */
+    private Duration retryBackoff = Duration.ofSeconds(30);
+
+    private Duration maxRetryBackoff = Duration.ofHours(1);
+
+    /**
+     * How long processed events are kept before being deleted.
+     */
+    private Duration retention = Duration.ofDays(7);
+}
@@ -0,0 +1,30 @@
+package com.donkie.quickcart.shared.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Records domain events in the outbox as part of the caller's transaction, so an event exists
+ * if and only if the change that raised it was committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String eventType, UUID aggregateId, Object event) {
+        try {
+            outboxEventRepository.save(OutboxEvent.create(eventType, aggregateId, objectMapper.writeValueAsString(event)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Event is not serializable: " + eventType, e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.donkie.quickcart.shared.outbox;
+
+public enum OutboxStatus {
+    PENDING,
+    /**
+     * Claimed by a poller until {@code available_at}, claimed again once that lease has run out.
+     */
+    PROCESSING,
+    PROCESSED,
+    /**
+     * Gave up after {@code app.outbox.max-attempts}, needs a look and a manual reset to PENDING.
+     */
+    FAILED
+}
@@ -0,0 +1,133 @@
+package com.donkie.quickcart.uploads.api.dto;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A file piped to the client without being buffered on the heap, either from an open stream or from a
+ * region of a local file. An open {@link #body} stays open until written by {@link #toResponse(CacheControl)}
+ * or closed.
+ *
+ * @param contentRange {@code Content-Range} of a partial response, otherwise null
+ * @param body         stream to copy, null when serving {@link #path} or when there is no content
+ * @param path         local file to serve {@code contentLength} bytes of, starting at {@link #position}
+ * @param cacheControl overrides the caller's policy, for a response that must not be cached like the usual one
+ */
+public record StreamedFile(
+        HttpStatus status,
+        String contentType,
+        long contentLength,
+        String contentRange,
+        String eTag,
+        InputStream body,
+        Path path,
+        long position,
+        CacheControl cacheControl
+) implements AutoCloseable {
+    // Tomcat's sendfile contract, the connector writes the file region itself once the servlet returns
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    public static StreamedFile of(HttpStatus status, String contentType, long contentLength,
+                                  String contentRange, String eTag, InputStream body) {
+        return new StreamedFile(status, contentType, contentLength, contentRange, eTag, body, null, 0, null);
+    }
+
+    public static StreamedFile ofFile(HttpStatus status, String contentType, long contentLength,
+                                      String contentRange, String eTag, Path path, long position) {
+        return new StreamedFile(status, contentType, contentLength, contentRange, eTag, null, path, position, null);
+    }
+
+    public static StreamedFile notModified(String eTag) {
+        return new StreamedFile(HttpStatus.NOT_MODIFIED, null, 0, null, eTag, null, null, 0, null);
+    }
+
+    public static StreamedFile rangeNotSatisfiable() {
+        return new StreamedFile(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, null, 0, null, null, null, null, 0, null);
+    }
+
+    public StreamedFile withContentTypeIfAbsent(String fallback) {
+        if (contentType != null || (body == null && path == null)) return this;
+        return new StreamedFile(status, fallback, contentLength, contentRange, eTag, body, path, position, cacheControl);
+    }
+
+    public StreamedFile withETag(String eTag) {
+        return new StreamedFile(status, contentType, contentLength, contentRange, eTag, body, path, position, cacheControl);
+    }
+
+    public StreamedFile withCacheControl(CacheControl cacheControl) {
+        return new StreamedFile(status, contentType, contentLength, contentRange, eTag, body, path, position, cacheControl);
+    }
+
+    /**
+     * A stream body is copied to the servlet output stream in 8 KB chunks and closed afterwards. A file region is
+     * handed to Tomcat's sendfile when the connector supports it (zero-copy, no body is written by the servlet),
+     * otherwise copied with {@link FileChannel#transferTo}.
+     */
+    public ResponseEntity<StreamingResponseBody> toResponse(CacheControl defaultCacheControl) {
+        var builder = ResponseEntity.status(status)
+                .cacheControl(cacheControl != null ? cacheControl : defaultCacheControl)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (eTag != null) builder.eTag(eTag);
+        if (body == null && path == null) return builder.build();
+
+        if (contentRange != null) builder.header(HttpHeaders.CONTENT_RANGE, contentRange);
+        builder.contentType(MediaType.parseMediaType(contentType))
+                .contentLength(contentLength);
+
+        if (body != null) {
+            return builder.body(out -> {
+                try (body) {
+                    body.transferTo(out);
+                }
+            });
+        }
+        if (trySendfile()) return builder.build();
+        return builder.body(out -> {
+            try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                var target = Channels.newChannel(out);
+                long sent = 0;
+                while (sent < contentLength) {
+                    sent += channel.transferTo(position + sent, contentLength - sent, target);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        if (body == null) return;
+        try {
+            body.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean trySendfile() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) return false;
+        var request = attributes.getRequest();
+        if (!Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) return false;
+
+        request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+        request.setAttribute(SENDFILE_START, position);
+        request.setAttribute(SENDFILE_END, position + contentLength);
+        return true;
+    }
+}
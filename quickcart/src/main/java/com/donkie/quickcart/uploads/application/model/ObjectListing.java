@@ -0,0 +1,12 @@
+package com.donkie.quickcart.uploads.application.model;
+
+import java.util.Set;
+
+/**
+ * @param complete whether every key under the prefix was listed, otherwise a missing key may still exist
+ */
+public record ObjectListing(
+        Set<String> keys,
+        boolean complete
+) {
+}
@@ -1,26 +1,31 @@
 package com.donkie.quickcart.uploads.application.service;
 
 import com.donkie.quickcart.shared.exception.handler.SafeExecutor;
+import com.donkie.quickcart.shared.http.HttpCaching;
 import com.donkie.quickcart.uploads.api.dto.ContentType;
-import com.donkie.quickcart.uploads.api.dto.DownloadFile;
+import com.donkie.quickcart.uploads.api.dto.StreamedFile;
 import com.donkie.quickcart.uploads.application.exception.ImageNotFoundByIdException;
 import com.donkie.quickcart.uploads.application.exception.ObjectNotFoundInS3Exception;
 import com.donkie.quickcart.uploads.application.model.ObjectHead;
 import com.donkie.quickcart.uploads.application.model.UploadResult;
 import com.donkie.quickcart.uploads.domain.model.ImageFile;
+import com.donkie.quickcart.uploads.domain.model.ImageRendition;
 import com.donkie.quickcart.uploads.domain.model.UploadStatus;
 import com.donkie.quickcart.uploads.domain.repository.ImageFileRepo;
+import com.donkie.quickcart.uploads.infra.cache.ImageDiskCache;
 import com.donkie.quickcart.uploads.infra.integration.config.AwsProperties;
 import com.donkie.quickcart.uploads.infra.integration.s3.S3Service;
+import com.donkie.quickcart.uploads.infra.renditions.RenditionProperties;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 
-import java.io.IOException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -31,6 +36,8 @@ public class ImageUploadService {
     private final S3Service s3Service;
     private final ImageFileRepo imageFileRepo;
     private final AwsProperties awsProperties;
+    private final ImageDiskCache imageCache;
+    private final RenditionProperties renditionProperties;
 
     @Transactional
     public UploadResult.PresignedUpload upload(ContentType contentType, String differentiatorName) {
@@ -63,6 +70,7 @@ public class ImageUploadService {
                 .map(r -> {
                     r.uploadCompleted();
                     var res = imageFileRepo.save(r);
+                    imageCache.invalidate(r.getObjectKey());
                     log.info("Upload completed successfully. ObjectKey: {}", r.getObjectKey());
                     return res;
                 })
@@ -106,14 +114,49 @@ public class ImageUploadService {
         return new UploadResult.PresignedDownload(presignedGetUrl, expiry);
     }
 
-    @Transactional
-    public DownloadFile getImage(UUID imageId) throws IOException {
-        log.debug("Attempting to retrieve image with ID: {}", imageId);
+    /**
+     * Serves the image, or the rendition fitting {@code width}, from the local disk cache, copying it there on a
+     * miss. Objects the cache does not take are streamed from S3. Runs without a transaction, so no connection is
+     * held while a miss downloads.
+     * <p>
+     * A requested width is rounded up to a configured rendition width, each image and rounded width is one
+     * immutable representation, so the ETag is derived from the ID and width alone and a matching
+     * {@code If-None-Match} is answered with 304 after a primary key lookup, without loading the image or touching
+     * S3. The lookup keeps a deleted image, or {@code *} for one that never existed, from being answered with 304.
+     * Until the renditions of an image are settled the original stands in, tagged as the original and marked for
+     * revalidation.
+     *
+     * @param width       requested width in pixels, null for the original
+     * @param range       HTTP {@code Range} header, null for the whole image
+     * @param ifNoneMatch HTTP {@code If-None-Match} header, null to skip the check
+     */
+    public StreamedFile getImage(UUID imageId, Integer width, String range, String ifNoneMatch) {
+        Integer renditionWidth = width == null ? null : renditionWidthFor(width);
+        String eTag = HttpCaching.eTagOf(renditionWidth == null ? imageId : imageId + "-w" + renditionWidth);
+        if (HttpCaching.matches(ifNoneMatch, eTag)) {
+            if (!imageFileRepo.existsById(imageId)) throw imageNotFound(imageId);
+            return StreamedFile.notModified(eTag);
+        }
 
-        ImageFile file = fetchImageFile(imageId);
-        byte[] bytes = s3Service.getObject(file.getObjectKey());
+        log.debug("Attempting to retrieve image with ID: {}", imageId);
+        ImageFile file = imageFileRepo.findWithRenditionsByImageId(imageId)
+                .orElseThrow(() -> imageNotFound(imageId));
+        if (renditionWidth == null) {
+            return serveObject(file.getObjectKey(), file.getContentType(), range).withETag(eTag);
+        }
+        if (!file.hasSettledRenditions()) {
+            return serveObject(file.getObjectKey(), file.getContentType(), range)
+                    .withETag(HttpCaching.eTagOf(imageId))
+                    .withCacheControl(HttpCaching.REVALIDATE);
+        }
 
-        return DownloadFile.of(file.getContentType(), bytes);
+        // No rendition this wide means the original is narrower, it is then the best fit
+        Optional<ImageRendition> rendition = file.findRendition(renditionWidth);
+        return serveObject(
+                rendition.map(ImageRendition::getObjectKey).orElse(file.getObjectKey()),
+                rendition.map(ImageRendition::getContentType).orElse(file.getContentType()),
+                range
+        ).withETag(eTag);
     }
 
     @Transactional
@@ -121,7 +164,10 @@ public class ImageUploadService {
         log.debug("Attempting to delete image with ID: {}", imageId);
         ImageFile file = fetchImageFile(imageId);
         s3Service.deleteObject(file.getObjectKey());
+        file.getRenditions().forEach(r -> s3Service.deleteObject(r.getObjectKey()));
         imageFileRepo.delete(file);
+        imageCache.invalidate(file.getObjectKey());
+        file.getRenditions().forEach(r -> imageCache.invalidate(r.getObjectKey()));
         log.info("Image deleted successfully. ObjectKey: {}", file.getObjectKey());
         return true;
     }
@@ -130,10 +176,41 @@ public class ImageUploadService {
 
     private ImageFile fetchImageFile(UUID imageId) {
         return imageFileRepo.findById(imageId)
-                .orElseThrow(() -> {
-                    log.warn("Image not found in DB for ID: {}", imageId);
-                    return new ImageNotFoundByIdException(HttpStatus.NOT_FOUND, "Image not found by Id");
-                });
+                .orElseThrow(() -> imageNotFound(imageId));
+    }
+
+    private ImageNotFoundByIdException imageNotFound(UUID imageId) {
+        log.warn("Image not found in DB for ID: {}", imageId);
+        return new ImageNotFoundByIdException(HttpStatus.NOT_FOUND, "Image not found by Id");
+    }
+
+    /**
+     * @return the narrowest configured rendition width at least {@code width} wide, null when wider than all
+     */
+    private Integer renditionWidthFor(int width) {
+        return renditionProperties.getWidths().stream()
+                .filter(w -> w >= width)
+                .min(Integer::compare)
+                .orElse(null);
+    }
+
+    private StreamedFile serveObject(String objectKey, String contentType, String range) {
+        if (imageCache.isCacheable(objectKey)) {
+            var cached = imageCache.lookup(objectKey)
+                    .or(() -> imageCache.store(objectKey, openObject(objectKey, contentType, null)));
+            if (cached.isPresent()) return imageCache.serve(cached.get(), range);
+        }
+        return openObject(objectKey, contentType, range);
+    }
+
+    private StreamedFile openObject(String objectKey, String contentType, String range) {
+        try {
+            return s3Service.openObject(objectKey, range, null)
+                    .withContentTypeIfAbsent(contentType);
+        } catch (NoSuchKeyException e) {
+            log.warn("Object not found in S3 for key: {}", objectKey);
+            throw new ObjectNotFoundInS3Exception(HttpStatus.NOT_FOUND, "Object not found in S3");
+        }
     }
 
     private ObjectHead getObjectHead(String objectKey) {
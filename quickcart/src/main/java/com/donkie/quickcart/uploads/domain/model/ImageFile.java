@@ -9,6 +9,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Entity
@@ -52,6 +55,21 @@ public class ImageFile {
     @Column(name = "created_by", nullable = false, updatable = false)
     private String createdBy;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rendition_status")
+    private RenditionStatus renditionStatus; // null until the upload completes
+
+    @Column(name = "rendition_attempts", nullable = false)
+    private int renditionAttempts = 0;
+
+    @Column(name = "rendition_claimed_date")
+    private Instant renditionClaimedDate;
+
+    @ElementCollection
+    @CollectionTable(name = "image_rendition", joinColumns = @JoinColumn(name = "image_id"))
+    @OrderBy("width")
+    private List<ImageRendition> renditions = new ArrayList<>();
+
     public static ImageFile create(String contentType, String differentiatorName, Duration uploadWindow) {
         String objectKey = String.format("%s/%s", differentiatorName, UUID.randomUUID());
         var img = new ImageFile();
@@ -62,8 +80,46 @@ public class ImageFile {
         return img;
     }
 
+    /**
+     * Also queues the image for rendition generation, the first time only.
+     */
     public void uploadCompleted() {
         this.uploadStatus = UploadStatus.UPLOAD_COMPLETE;
+        if (this.renditionStatus == null) this.renditionStatus = RenditionStatus.PENDING;
+    }
+
+    /**
+     * @param generated renditions stored in S3, empty when the original is narrower than every rendition width
+     */
+    public void renditionsGenerated(List<ImageRendition> generated) {
+        this.renditions.clear();
+        this.renditions.addAll(generated);
+        this.renditionStatus = generated.isEmpty() ? RenditionStatus.SKIPPED : RenditionStatus.READY;
+        this.renditionClaimedDate = null;
+    }
+
+    /**
+     * The attempt was counted when the image was claimed, after {@code maxAttempts} the image is parked as FAILED.
+     */
+    public void renditionAttemptFailed(int maxAttempts) {
+        this.renditionStatus = renditionAttempts >= maxAttempts ? RenditionStatus.FAILED : RenditionStatus.PENDING;
+        this.renditionClaimedDate = null;
+    }
+
+    /**
+     * Whether the renditions are settled, the representation served for a width then never changes.
+     */
+    public boolean hasSettledRenditions() {
+        return renditionStatus == RenditionStatus.READY || renditionStatus == RenditionStatus.SKIPPED;
+    }
+
+    /**
+     * @return the narrowest rendition at least {@code width} wide, empty when the original is the best fit
+     */
+    public Optional<ImageRendition> findRendition(int width) {
+        return renditions.stream()
+                .filter(r -> r.getWidth() >= width)
+                .findFirst();
     }
 
     public boolean isExpired() {
@@ -0,0 +1,36 @@
+package com.donkie.quickcart.uploads.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+/**
+ * A resized copy of an image, stored in S3 next to the original.
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageRendition {
+
+    @Column(name = "width", nullable = false)
+    private int width;
+
+    @Column(name = "object_key", nullable = false)
+    private String objectKey;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    /**
+     * Renditions live under the original's key, e.g. {@code product_gallery/<uuid>/w512}.
+     */
+    public static String objectKeyOf(String originalKey, int width) {
+        return originalKey + "/w" + width;
+    }
+}
@@ -0,0 +1,9 @@
+package com.donkie.quickcart.uploads.domain.model;
+
+public enum RenditionStatus {
+    PENDING,
+    PROCESSING,
+    READY,
+    SKIPPED,  // nothing to generate, or a format that cannot be decoded
+    FAILED;
+}
@@ -1,30 +1,132 @@
 package com.donkie.quickcart.uploads.domain.repository;
 
 import com.donkie.quickcart.uploads.domain.model.ImageFile;
-import com.donkie.quickcart.uploads.domain.model.UploadStatus;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.donkie.quickcart.uploads.domain.model.RenditionStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface ImageFileRepo extends JpaRepository<ImageFile, UUID> {
+    /**
+     * Pending uploads whose window has passed, in {@code image_id} order starting after {@code after}.
+     */
     @Query(
             value = """
                     SELECT *
                     FROM image_file i
                     WHERE i.upload_status = 'UPLOAD_PENDING'
                       AND (i.created_date + make_interval(secs => i.upload_window)) < CURRENT_TIMESTAMP
+                      AND i.image_id > :after
+                    ORDER BY i.image_id
+                    LIMIT :limit
                     """,
             nativeQuery = true
     )
-    List<ImageFile> findExpiredButPendingUploads();
+    List<ImageFile> findExpiredButPendingUploads(UUID after, int limit);
 
+    /**
+     * Pending uploads whose window is still open, in {@code image_id} order starting after {@code after}.
+     */
+    @Query(
+            value = """
+                    SELECT *
+                    FROM image_file i
+                    WHERE i.upload_status = 'UPLOAD_PENDING'
+                      AND (i.created_date + make_interval(secs => i.upload_window)) >= CURRENT_TIMESTAMP
+                      AND i.image_id > :after
+                    ORDER BY i.image_id
+                    LIMIT :limit
+                    """,
+            nativeQuery = true
+    )
+    List<ImageFile> findOpenPendingUploads(UUID after, int limit);
 
-    Page<ImageFile> findByUploadStatus(UploadStatus uploadStatus, Pageable pageable);
+    /**
+     * Bulk {@link ImageFile#uploadCompleted()}, queueing the images for renditions as well.
+     */
+    @Transactional
+    @Modifying
+    @Query(
+            value = """
+                    UPDATE image_file
+                    SET upload_status = 'UPLOAD_COMPLETE',
+                        rendition_status = COALESCE(rendition_status, 'PENDING')
+                    WHERE image_id IN (:imageIds)
+                      AND upload_status = 'UPLOAD_PENDING'
+                    """,
+            nativeQuery = true
+    )
+    int markUploadsCompleted(Collection<UUID> imageIds);
+
+    @Transactional
+    @Modifying
+    @Query(
+            value = """
+                    DELETE FROM image_file
+                    WHERE image_id IN (:imageIds)
+                      AND upload_status = 'UPLOAD_PENDING'
+                    """,
+            nativeQuery = true
+    )
+    int deletePendingUploads(Collection<UUID> imageIds);
 
     Optional<ImageFile> findByObjectKey(String objectKey);
+
+    @EntityGraph(attributePaths = "renditions")
+    Optional<ImageFile> findWithRenditionsByImageId(UUID imageId);
+
+    /**
+     * Images waiting for renditions, and images whose worker stopped reporting back. Rows claimed by another
+     * node are skipped.
+     */
+    @Query(
+            value = """
+                    SELECT i.image_id
+                    FROM image_file i
+                    WHERE (i.rendition_status = 'PENDING'
+                           OR (i.rendition_status = 'PROCESSING' AND i.rendition_claimed_date < :staleBefore))
+                      AND i.rendition_attempts < :maxAttempts
+                    ORDER BY i.created_date
+                    LIMIT :limit
+                    FOR UPDATE SKIP LOCKED
+                    """,
+            nativeQuery = true
+    )
+    List<UUID> findRenditionWork(int limit, Instant staleBefore, int maxAttempts);
+
+    /**
+     * Parks abandoned claims that used the last attempt as FAILED. {@link #findRenditionWork} no longer selects
+     * them, without this they would stay PROCESSING forever.
+     */
+    @Modifying
+    @Query(
+            value = """
+                    UPDATE image_file
+                    SET rendition_status = 'FAILED',
+                        rendition_claimed_date = NULL
+                    WHERE rendition_status = 'PROCESSING'
+                      AND rendition_claimed_date < :staleBefore
+                      AND rendition_attempts >= :maxAttempts
+                    """,
+            nativeQuery = true
+    )
+    int failExhaustedRenditionWork(Instant staleBefore, int maxAttempts);
+
+    @Modifying
+    @Query("""
+            UPDATE ImageFile i
+            SET i.renditionStatus = :status,
+                i.renditionClaimedDate = :claimedDate,
+                i.renditionAttempts = i.renditionAttempts + 1
+            WHERE i.imageId IN :imageIds
+            """)
+    int claimRenditionWork(Collection<UUID> imageIds, RenditionStatus status, Instant claimedDate);
 }
@@ -0,0 +1,36 @@
+package com.donkie.quickcart.uploads.infra.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+@Component
+@ConfigurationProperties(prefix = "app.uploads.image-cache")
+@Getter
+@Setter
+public class ImageCacheProperties {
+    /**
+     * Serve hot images from local disk, otherwise every request streams from S3.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Root of the cache, may be shared by the instances of one host: every instance keeps its files in its own
+     * subdirectory. Must be local to the host, file locks across nodes are not reliable.
+     */
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "quickcart-image-cache");
+
+    /**
+     * Disk budget, the least recently used images are evicted beyond it.
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(512);
+
+    /**
+     * Larger images are always streamed from S3.
+     */
+    private DataSize maxObjectSize = DataSize.ofMegabytes(10);
+}
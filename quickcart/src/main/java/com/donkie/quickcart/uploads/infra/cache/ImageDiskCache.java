@@ -0,0 +1,279 @@
+package com.donkie.quickcart.uploads.infra.cache;
+
+import com.donkie.quickcart.uploads.api.dto.StreamedFile;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.http.Abortable;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded local disk tier for images, keyed by S3 object key.
+ * <p>
+ * Each image is one file written once and never modified. The index is a Caffeine cache weighed by file size,
+ * so the least recently used images are evicted once {@code app.uploads.image-cache.max-size} is exceeded.
+ * Files of evicted entries are deleted after a grace period, responses already handed to the connector keep
+ * reading them meanwhile. A file that disappeared anyway (e.g. a tmp cleaner) is dropped from the index on lookup.
+ * <p>
+ * Nothing survives a restart. Each instance works in its own subdirectory of {@code app.uploads.image-cache.directory},
+ * held by a file lock and removed on shutdown, so instances sharing the directory never touch each other's files.
+ * Subdirectories whose lock is free belonged to an instance that died, they are removed on startup. Startup holds
+ * the lock of the root meanwhile, so a starting instance is never pruned before it holds its own lock. File locks
+ * are only reliable between processes of one host, the directory must not be on a filesystem shared by nodes.
+ */
+@Slf4j
+@Component
+public class ImageDiskCache {
+    private static final String FILE_SUFFIX = ".img";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String INSTANCE_PREFIX = "instance-";
+    private static final String LOCK_SUFFIX = ".lock";
+    private static final String ROOT_LOCK = "cache.lock";
+    private static final Duration DELETE_GRACE = Duration.ofMinutes(1);
+    private static final Pattern SINGLE_RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+
+    /**
+     * @param eTag S3 ETag of the object the file was copied from, quoted
+     */
+    public record CachedImage(Path path, long size, String contentType, String eTag) {
+    }
+
+    private final ImageCacheProperties properties;
+    private final Cache<String, CachedImage> entries;
+    private final Cache<String, Boolean> oversized;
+    private final Executor delayedDeleter =
+            CompletableFuture.delayedExecutor(DELETE_GRACE.toMillis(), TimeUnit.MILLISECONDS);
+    private Path directory;
+    private FileLock instanceLock;
+
+    public ImageDiskCache(ImageCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((String key, CachedImage image) -> (int) image.size())
+                .removalListener((String key, CachedImage image, RemovalCause cause) -> {
+                    if (image != null) delayedDeleter.execute(() -> deleteQuietly(image.path()));
+                })
+                .recordStats()
+                .build();
+        // Keys known to exceed max-object-size, so they are not downloaded twice on every request
+        this.oversized = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "image-disk-cache");
+        Gauge.builder("quickcart.image.cache.bytes", this, ImageDiskCache::weightedSize)
+                .description("Bytes of images held in the local disk cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Prunes and creates instance subdirectories under the root lock. An instance's lock file exists unlocked
+     * between its creation and its lock, without the root lock another instance starting at the same time could
+     * take it for abandoned and remove it.
+     */
+    @PostConstruct
+    public void init() throws IOException {
+        if (!properties.isEnabled()) return;
+        Path root = properties.getDirectory();
+        Files.createDirectories(root);
+
+        try (var rootChannel = FileChannel.open(root.resolve(ROOT_LOCK),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             var rootLock = rootChannel.lock()) {
+            removeAbandonedInstances(root);
+
+            String instance = INSTANCE_PREFIX + UUID.randomUUID();
+            var lockChannel = FileChannel.open(root.resolve(instance + LOCK_SUFFIX),
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            instanceLock = lockChannel.lock();
+            directory = Files.createDirectory(root.resolve(instance));
+        }
+        log.info("Image disk cache at {}, up to {} MB", directory, properties.getMaxSize().toMegabytes());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (instanceLock == null) return;
+        entries.invalidateAll();
+        deleteTree(directory);
+        try (var lockChannel = instanceLock.channel()) {
+            instanceLock.release();
+        } catch (IOException e) {
+            log.debug("Failed to release image cache lock: {}", e.getMessage());
+        }
+        deleteQuietly(directory.resolveSibling(directory.getFileName() + LOCK_SUFFIX));
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public boolean isCacheable(String objectKey) {
+        return properties.isEnabled() && oversized.getIfPresent(objectKey) == null;
+    }
+
+    /**
+     * @return empty on a miss, and when the entry's file is gone, the entry is then dropped and the caller falls
+     * back to S3
+     */
+    public Optional<CachedImage> lookup(String objectKey) {
+        var image = entries.getIfPresent(objectKey);
+        if (image == null) return Optional.empty();
+        if (!Files.isRegularFile(image.path())) {
+            log.warn("Cached image file {} of {} is missing, dropping the entry", image.path(), objectKey);
+            entries.asMap().remove(objectKey, image);
+            return Optional.empty();
+        }
+        return Optional.of(image);
+    }
+
+    /**
+     * Copies a whole object to disk and indexes it. The object is not cached when it is not a full 200 response
+     * or is larger than {@code max-object-size}, its stream is then aborted rather than drained.
+     *
+     * @param object a full object as opened from S3, always closed
+     */
+    public Optional<CachedImage> store(String objectKey, StreamedFile object) {
+        try (object) {
+            if (object.status() != HttpStatus.OK || object.body() == null) return Optional.empty();
+            if (object.contentLength() > properties.getMaxObjectSize().toBytes()) {
+                oversized.put(objectKey, Boolean.TRUE);
+                if (object.body() instanceof Abortable abortable) abortable.abort();
+                return Optional.empty();
+            }
+            return Optional.of(write(objectKey, object));
+        } catch (IOException e) {
+            log.warn("Failed to cache image {} on disk: {}", objectKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Answers a request from the cached file: 206 for a single satisfiable byte range, 416 for an unsatisfiable one
+     * and the whole file otherwise. Multiple ranges are answered with the whole file, as RFC 9110 allows.
+     */
+    public StreamedFile serve(CachedImage image, String range) {
+        long size = image.size();
+        var matcher = range == null ? null : SINGLE_RANGE.matcher(range.trim());
+        if (matcher == null || !matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            return StreamedFile.ofFile(HttpStatus.OK, image.contentType(), size, null, image.eTag(), image.path(), 0);
+        }
+
+        long start;
+        long end;
+        if (matcher.group(1).isEmpty()) {
+            // Suffix range, the last n bytes
+            start = Math.max(0, size - Long.parseLong(matcher.group(2)));
+            end = size - 1;
+        } else {
+            start = Long.parseLong(matcher.group(1));
+            end = matcher.group(2).isEmpty() ? size - 1 : Math.min(Long.parseLong(matcher.group(2)), size - 1);
+        }
+        if (start >= size || start > end) return StreamedFile.rangeNotSatisfiable();
+
+        return StreamedFile.ofFile(HttpStatus.PARTIAL_CONTENT, image.contentType(), end - start + 1,
+                "bytes %d-%d/%d".formatted(start, end, size), image.eTag(), image.path(), start);
+    }
+
+    public void invalidate(String objectKey) {
+        entries.invalidate(objectKey);
+        oversized.invalidate(objectKey);
+    }
+
+    // ===================== Private Helpers =====================
+
+    /**
+     * Writes to a temporary file and moves it into place, a file under its final name is always complete.
+     */
+    private CachedImage write(String objectKey, StreamedFile object) throws IOException {
+        Path temp = Files.createTempFile(directory, "img-", TEMP_SUFFIX);
+        try {
+            long copied = Files.copy(object.body(), temp, StandardCopyOption.REPLACE_EXISTING);
+            if (copied != object.contentLength()) {
+                throw new IOException("Expected %d bytes, read %d".formatted(object.contentLength(), copied));
+            }
+            Path path = directory.resolve(UUID.randomUUID() + FILE_SUFFIX);
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+
+            var image = new CachedImage(path, copied, object.contentType(), object.eTag());
+            // A concurrent miss may have stored the same key, the replaced entry's file is deleted by the listener
+            entries.put(objectKey, image);
+            return image;
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * Removes the subdirectories of instances that are gone, a lock that can be taken is not held by a live one.
+     */
+    private static void removeAbandonedInstances(Path root) throws IOException {
+        try (var locks = Files.list(root)) {
+            locks.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(INSTANCE_PREFIX) && name.endsWith(LOCK_SUFFIX);
+            }).forEach(lockFile -> {
+                String name = lockFile.getFileName().toString();
+                try (var channel = FileChannel.open(lockFile, StandardOpenOption.WRITE);
+                     var lock = channel.tryLock()) {
+                    if (lock == null) return;
+                    deleteTree(root.resolve(name.substring(0, name.length() - LOCK_SUFFIX.length())));
+                    Files.deleteIfExists(lockFile);
+                    log.info("Removed image cache files of a stopped instance: {}", lockFile);
+                } catch (OverlappingFileLockException e) {
+                    // Held by another application context of this JVM
+                } catch (IOException e) {
+                    log.warn("Failed to check image cache lock {}: {}", lockFile, e.getMessage());
+                }
+            });
+        }
+    }
+
+    private static void deleteTree(Path directory) {
+        if (!Files.isDirectory(directory)) return;
+        try (var paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(ImageDiskCache::deleteQuietly);
+        } catch (IOException e) {
+            log.warn("Failed to delete image cache directory {}: {}", directory, e.getMessage());
+        }
+    }
+
+    private long weightedSize() {
+        return entries.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete cached image file {}: {}", path, e.getMessage());
+        }
+    }
+}
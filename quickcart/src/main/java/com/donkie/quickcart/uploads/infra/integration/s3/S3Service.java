@@ -1,10 +1,14 @@
 package com.donkie.quickcart.uploads.infra.integration.s3;
 
 import com.donkie.quickcart.uploads.api.dto.ContentType;
+import com.donkie.quickcart.uploads.api.dto.StreamedFile;
 import com.donkie.quickcart.uploads.application.model.ObjectHead;
+import com.donkie.quickcart.uploads.application.model.ObjectListing;
 import com.donkie.quickcart.uploads.infra.integration.config.AwsProperties;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -13,9 +17,10 @@ import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignReques
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
-import java.io.IOException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
 
 @Service
 public class S3Service {
@@ -74,6 +79,15 @@ public class S3Service {
         return presigner.presignDeleteObject(presignDeleteRequest).url();
     }
 
+    public void putObject(String objectKey, byte[] bytes, String contentType) {
+        s3.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(objectKey)
+                        .contentType(contentType)
+                        .build(),
+                RequestBody.fromBytes(bytes));
+    }
+
     public void deleteObject(String objectKey) {
         s3.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(objectKey).build());
     }
@@ -88,18 +102,62 @@ public class S3Service {
         } catch (NoSuchKeyException e) {
             return ObjectHead.notFound();
         } catch (S3Exception e) {
-            if (e.statusCode() == 404) ObjectHead.notFound();
+            if (e.statusCode() == 404) return ObjectHead.notFound();
             throw e;
         }
     }
 
-    public byte[] getObject(String objectKey) throws IOException {
-        try (ResponseInputStream<GetObjectResponse> inputStream = s3.getObject(
-                GetObjectRequest.builder()
-                        .bucket(bucket)
-                        .key(objectKey)
-                        .build())) {
-            return inputStream.readAllBytes();
+    /**
+     * Lists the keys directly under the prefix, up to 1000 entries per call, and stops once {@code maxKeys}
+     * entries have been seen. Deeper keys, such as the {@code <key>/w<width>} renditions, are rolled up by the
+     * {@code /} delimiter into one common prefix per original; those prefixes count as entries but are not
+     * returned.
+     */
+    public ObjectListing listKeys(String prefix, int maxKeys) {
+        Set<String> keys = new HashSet<>();
+        int listed = 0;
+        String continuationToken = null;
+        do {
+            ListObjectsV2Response response = s3.listObjectsV2(ListObjectsV2Request.builder()
+                    .bucket(bucket)
+                    .prefix(prefix)
+                    .delimiter("/")
+                    .continuationToken(continuationToken)
+                    .build());
+            response.contents().forEach(object -> keys.add(object.key()));
+            listed += response.contents().size() + response.commonPrefixes().size();
+            continuationToken = response.isTruncated() ? response.nextContinuationToken() : null;
+        } while (continuationToken != null && listed < maxKeys);
+
+        return new ObjectListing(keys, continuationToken == null);
+    }
+
+    /**
+     * Opens the object for streaming, the caller owns the returned stream and must close it.
+     *
+     * @param range       HTTP {@code Range} header, null for the whole object
+     * @param ifNoneMatch HTTP {@code If-None-Match} header, null to skip the check
+     */
+    public StreamedFile openObject(String objectKey, String range, String ifNoneMatch) {
+        try {
+            ResponseInputStream<GetObjectResponse> stream = s3.getObject(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey)
+                    .range(range)
+                    .ifNoneMatch(ifNoneMatch)
+                    .build());
+            GetObjectResponse response = stream.response();
+            return StreamedFile.of(
+                    response.contentRange() != null ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK,
+                    response.contentType(),
+                    response.contentLength(),
+                    response.contentRange(),
+                    response.eTag(),
+                    stream);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 304) return StreamedFile.notModified(ifNoneMatch);
+            if (e.statusCode() == 416) return StreamedFile.rangeNotSatisfiable();
+            throw e;
         }
     }
 }
@@ -0,0 +1,181 @@
+package com.donkie.quickcart.uploads.infra.jobs;
+
+import com.donkie.quickcart.uploads.domain.model.ImageFile;
+import com.donkie.quickcart.uploads.domain.model.ImageRendition;
+import com.donkie.quickcart.uploads.domain.model.RenditionStatus;
+import com.donkie.quickcart.uploads.domain.repository.ImageFileRepo;
+import com.donkie.quickcart.uploads.infra.integration.s3.S3Service;
+import com.donkie.quickcart.uploads.infra.renditions.ImageResizer;
+import com.donkie.quickcart.uploads.infra.renditions.RenditionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.http.Abortable;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Generates the resized renditions of completed uploads.
+ * <p>
+ * {@code image_file} is the queue: the scheduler claims as many PENDING images as there are idle workers, marks
+ * them PROCESSING in one short transaction and hands them to a fixed pool of
+ * {@code app.uploads.renditions.concurrency} platform threads. A worker downloads the original once, uploads
+ * every rendition narrower than it and records them. Claims abandoned by a crashed node are taken over after
+ * {@code stale-after}, failures are retried until {@code max-attempts}. A claim abandoned on the last attempt is
+ * parked as FAILED once stale.
+ */
+@Slf4j
+@Service
+public class GenerateImageRenditions {
+    private final ImageFileRepo imageFileRepo;
+    private final S3Service s3Service;
+    private final ImageResizer resizer;
+    private final RenditionProperties properties;
+    private final TransactionTemplate transaction;
+    private final ExecutorService workers;
+    private final Semaphore idleWorkers;
+
+    private final Counter generated;
+    private final Counter skipped;
+    private final Counter failed;
+    private final Timer duration;
+
+    public GenerateImageRenditions(ImageFileRepo imageFileRepo,
+                                   S3Service s3Service,
+                                   ImageResizer resizer,
+                                   RenditionProperties properties,
+                                   MeterRegistry meterRegistry,
+                                   PlatformTransactionManager transactionManager) {
+        this.imageFileRepo = imageFileRepo;
+        this.s3Service = s3Service;
+        this.resizer = resizer;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+
+        int concurrency = Math.max(1, properties.getConcurrency());
+        this.workers = Executors.newFixedThreadPool(concurrency, Thread.ofPlatform().name("renditions-", 0).factory());
+        this.idleWorkers = new Semaphore(concurrency);
+
+        this.generated = Counter.builder("quickcart.image.renditions").tag("result", "generated").register(meterRegistry);
+        this.skipped = Counter.builder("quickcart.image.renditions").tag("result", "skipped").register(meterRegistry);
+        this.failed = Counter.builder("quickcart.image.renditions").tag("result", "failed").register(meterRegistry);
+        this.duration = Timer.builder("quickcart.image.renditions.duration")
+                .description("Time to download an original and store all of its renditions")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.uploads.renditions.poll-interval-ms:5000}")
+    public void poll() {
+        if (!properties.isEnabled()) return;
+        int idle = idleWorkers.availablePermits();
+        if (idle == 0) return;
+
+        List<UUID> claimed = Objects.requireNonNull(transaction.execute(status -> claim(idle)));
+        for (UUID imageId : claimed) {
+            // Only this method takes permits, so the ones counted above are still free
+            idleWorkers.acquireUninterruptibly();
+            workers.execute(() -> {
+                try {
+                    duration.record(() -> process(imageId));
+                } finally {
+                    idleWorkers.release();
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Unfinished claims go stale and are picked up again
+        workers.shutdownNow();
+    }
+
+    // ===================== Private Helpers =====================
+
+    private List<UUID> claim(int limit) {
+        var staleBefore = Instant.now().minus(properties.getStaleAfter());
+        int exhausted = imageFileRepo.failExhaustedRenditionWork(staleBefore, properties.getMaxAttempts());
+        if (exhausted > 0) {
+            log.warn("Gave up on {} images abandoned on their last rendition attempt", exhausted);
+            failed.increment(exhausted);
+        }
+
+        List<UUID> imageIds = imageFileRepo.findRenditionWork(limit, staleBefore, properties.getMaxAttempts());
+        if (!imageIds.isEmpty()) {
+            imageFileRepo.claimRenditionWork(imageIds, RenditionStatus.PROCESSING, Instant.now());
+        }
+        return imageIds;
+    }
+
+    private void process(UUID imageId) {
+        var file = imageFileRepo.findById(imageId).orElse(null);
+        if (file == null) return; // deleted since claimed
+
+        List<ImageRendition> renditions;
+        try {
+            renditions = render(file);
+        } catch (Exception e) {
+            log.warn("Rendition of image {} failed, attempt {}: {}", imageId, file.getRenditionAttempts(), e.toString());
+            failed.increment();
+            transaction.executeWithoutResult(status -> imageFileRepo.findById(imageId).ifPresent(f -> {
+                f.renditionAttemptFailed(properties.getMaxAttempts());
+                imageFileRepo.save(f);
+            }));
+            return;
+        }
+
+        boolean recorded = Boolean.TRUE.equals(transaction.execute(status -> imageFileRepo.findById(imageId)
+                .map(f -> {
+                    f.renditionsGenerated(renditions);
+                    imageFileRepo.save(f);
+                    return true;
+                })
+                .orElse(false)));
+        if (!recorded) {
+            // The image was deleted while resizing, its renditions would never be cleaned up otherwise
+            renditions.forEach(r -> s3Service.deleteObject(r.getObjectKey()));
+            return;
+        }
+
+        (renditions.isEmpty() ? skipped : generated).increment();
+        log.debug("Stored {} renditions of image {}", renditions.size(), imageId);
+    }
+
+    /**
+     * Renditions are only made narrower than the original, an original narrower than every width gets none.
+     */
+    private List<ImageRendition> render(ImageFile file) throws IOException {
+        BufferedImage original;
+        try (var object = s3Service.openObject(file.getObjectKey(), null, null)) {
+            original = resizer.decode(object.body()).orElse(null);
+            if (original == null && object.body() instanceof Abortable abortable) abortable.abort();
+        }
+        if (original == null) return List.of();
+
+        List<ImageRendition> renditions = new ArrayList<>();
+        for (int width : properties.getWidths().stream().sorted().toList()) {
+            if (width >= original.getWidth()) break;
+
+            var encoded = resizer.resize(original, width);
+            String objectKey = ImageRendition.objectKeyOf(file.getObjectKey(), width);
+            s3Service.putObject(objectKey, encoded.bytes(), encoded.contentType());
+            renditions.add(new ImageRendition(width, objectKey, encoded.contentType(), encoded.bytes().length));
+        }
+        return renditions;
+    }
+}
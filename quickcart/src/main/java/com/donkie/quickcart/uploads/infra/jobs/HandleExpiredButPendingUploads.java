@@ -1,16 +1,19 @@
 package com.donkie.quickcart.uploads.infra.jobs;
 
-import com.donkie.quickcart.uploads.application.model.ObjectHead;
+import com.donkie.quickcart.shared.jpa.UuidKeyset;
 import com.donkie.quickcart.uploads.domain.model.ImageFile;
 import com.donkie.quickcart.uploads.domain.model.UploadStatus;
 import com.donkie.quickcart.uploads.domain.repository.ImageFileRepo;
-import com.donkie.quickcart.uploads.infra.integration.s3.S3Service;
+import com.donkie.quickcart.uploads.infra.reconciliation.ReconciliationProperties;
+import com.donkie.quickcart.uploads.infra.reconciliation.UploadReconciler;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.UUID;
 
 @Service
 @AllArgsConstructor
@@ -18,37 +21,62 @@ import java.util.List;
 public class HandleExpiredButPendingUploads {
 
     private final ImageFileRepo imageFileRepo;
-    private final S3Service s3Service;
+    private final UploadReconciler uploadReconciler;
+    private final ReconciliationProperties properties;
 
+    /**
+     * Resolves pending uploads whose window has passed: completed when the object made it to S3, deleted
+     * otherwise. Each batch is checked against S3 by {@link UploadReconciler} and applied with one UPDATE and
+     * one DELETE.
+     */
     @Scheduled(fixedDelay = 300_000) // every 5 minutes
     public void execute() {
-        List<ImageFile> expired = imageFileRepo.findExpiredButPendingUploads();
+        UUID after = UuidKeyset.FIRST_ID;
+        int completedCount = 0;
+        int deletedCount = 0;
+        List<ImageFile> batch;
 
-        if (expired.isEmpty()) {
+        do {
+            batch = imageFileRepo.findExpiredButPendingUploads(after, properties.getBatchSize());
+            if (batch.isEmpty()) break;
+            after = batch.getLast().getImageId();
+
+            var outcome = uploadReconciler.reconcile(batch);
+            if (!outcome.present().isEmpty()) {
+                completedCount += imageFileRepo.markUploadsCompleted(UploadReconciler.imageIds(outcome.present()));
+            }
+            if (!outcome.absent().isEmpty()) {
+                deletedCount += deletePendingUploads(UploadReconciler.imageIds(outcome.absent()));
+            }
+        } while (batch.size() == properties.getBatchSize());
+
+        if (completedCount == 0 && deletedCount == 0) {
             log.debug("No expired pending uploads found for cleanup.");
             return;
         }
+        log.info("Resolved {} pending uploads to '{}', and '{}' deleted as expired",
+                completedCount, UploadStatus.UPLOAD_COMPLETE.name(), deletedCount);
+    }
 
-        int completedCount = 0;
-        int deletedCount = 0;
+    // ===================== Private Helpers =====================
 
-        for (ImageFile file : expired) {
-            try {
-                var head = s3Service.doesObjectExist(file.getObjectKey());
-                if (head.isPresent()) {
-                    file.uploadCompleted();
-                    imageFileRepo.save(file);
-                    completedCount++;
-                } else {
-                    imageFileRepo.delete(file);
-                    deletedCount++;
+    /**
+     * A row still referenced elsewhere fails the whole statement, the batch is then deleted row by row so one
+     * such row does not hold back the others.
+     */
+    private int deletePendingUploads(List<UUID> imageIds) {
+        try {
+            return imageFileRepo.deletePendingUploads(imageIds);
+        } catch (DataIntegrityViolationException e) {
+            int deleted = 0;
+            for (UUID imageId : imageIds) {
+                try {
+                    deleted += imageFileRepo.deletePendingUploads(List.of(imageId));
+                } catch (DataIntegrityViolationException ex) {
+                    log.error("Expired pending upload {} is still referenced, not deleted: {}", imageId, ex.getMessage());
                 }
-            } catch (Exception e) {
-                log.error("Error while processing expired pending upload (key: {}): {}",
-                        file.getObjectKey(), e.getMessage());
             }
+            return deleted;
         }
-        log.info("Resolved {} pending uploads to '{}', and '{}' deleted as expired",
-                completedCount, UploadStatus.UPLOAD_COMPLETE.name(), deletedCount);
     }
 }
@@ -1,18 +1,18 @@
 package com.donkie.quickcart.uploads.infra.jobs;
 
-import com.donkie.quickcart.uploads.application.model.ObjectHead;
+import com.donkie.quickcart.shared.jpa.UuidKeyset;
 import com.donkie.quickcart.uploads.domain.model.ImageFile;
 import com.donkie.quickcart.uploads.domain.model.UploadStatus;
 import com.donkie.quickcart.uploads.domain.repository.ImageFileRepo;
-import com.donkie.quickcart.uploads.infra.integration.s3.S3Service;
+import com.donkie.quickcart.uploads.infra.reconciliation.ReconciliationProperties;
+import com.donkie.quickcart.uploads.infra.reconciliation.UploadReconciler;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
 
 @Service
 @AllArgsConstructor
@@ -20,50 +20,35 @@ import org.springframework.transaction.annotation.Transactional;
 public class SynchronizeUploadStatus {
 
     private final ImageFileRepo imageFileRepo;
-    private final S3Service s3Service;
+    private final UploadReconciler uploadReconciler;
+    private final ReconciliationProperties properties;
 
     /**
-     * Periodically checks all pending uploads to see if they've been uploaded
+     * Periodically checks the pending uploads whose window is still open to see if they've been uploaded
      * to S3 (but not confirmed by the client).
      * If found in S3, update the record to UPLOAD_COMPLETE.
+     * <p>
+     * Uploads are walked in {@code image_id} order, so completing a batch never shifts the next one, and each
+     * batch is checked against S3 by {@link UploadReconciler} and completed with one UPDATE.
      */
     @Scheduled(cron = "0 * * * * *") // every 1 minute
     public void execute() {
-        int pageNumber = 0;
+        UUID after = UuidKeyset.FIRST_ID;
         int totalCompleted = 0;
+        List<ImageFile> batch;
 
-        while (true) {
-            Pageable pageable = PageRequest.of(pageNumber, 100);
-            Page<ImageFile> page = imageFileRepo.findByUploadStatus(UploadStatus.UPLOAD_PENDING, pageable);
-
-            if (page.isEmpty()) break;
+        do {
+            batch = imageFileRepo.findOpenPendingUploads(after, properties.getBatchSize());
+            if (batch.isEmpty()) break;
+            after = batch.getLast().getImageId();
 
-            for (ImageFile record : page) {
-                if (trySynchronizingStatus(record)) totalCompleted++;
+            var outcome = uploadReconciler.reconcile(batch);
+            if (!outcome.present().isEmpty()) {
+                totalCompleted += imageFileRepo.markUploadsCompleted(UploadReconciler.imageIds(outcome.present()));
             }
-
-            if (!page.hasNext()) break;
-            pageNumber++;
-        }
+        } while (batch.size() == properties.getBatchSize());
 
         log.info("Synchronization completed — {} uploads marked as '{}'.",
                 totalCompleted, UploadStatus.UPLOAD_COMPLETE.name());
     }
-
-    @Transactional
-    private boolean trySynchronizingStatus(ImageFile uploadRecord) {
-        try {
-            // Check only if upload window still open (don’t bother with expired)
-            var head = s3Service.doesObjectExist(uploadRecord.getObjectKey());
-            if (!uploadRecord.isExpired() && head.isPresent()) {
-                uploadRecord.uploadCompleted();
-                imageFileRepo.save(uploadRecord);
-                return true;
-            }
-        } catch (Exception e) {
-            log.error("Upload status synchronization failed (key: {}): {}",
-                    uploadRecord.getObjectKey(), e.getMessage());
-        }
-        return false;
-    }
 }
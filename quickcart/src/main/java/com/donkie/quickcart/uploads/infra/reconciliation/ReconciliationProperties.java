@@ -0,0 +1,34 @@
+package com.donkie.quickcart.uploads.infra.reconciliation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.uploads.reconciliation")
+@Getter
+@Setter
+public class ReconciliationProperties {
+    /**
+     * Pending uploads read, checked against S3 and updated at once.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * A differentiator with at least this many pending uploads in a batch is checked by listing its prefix,
+     * fewer are checked one HEAD each.
+     */
+    private int listThreshold = 20;
+
+    /**
+     * Listing a prefix stops after this many keys, or after one page per upload to check when that comes first,
+     * uploads not seen by then are checked with HEAD.
+     */
+    private int maxListedKeys = 100_000;
+
+    /**
+     * HEAD requests in flight at once.
+     */
+    private int headConcurrency = 16;
+}
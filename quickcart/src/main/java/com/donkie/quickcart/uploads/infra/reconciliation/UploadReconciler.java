@@ -0,0 +1,115 @@
+package com.donkie.quickcart.uploads.infra.reconciliation;
+
+import com.donkie.quickcart.uploads.domain.model.ImageFile;
+import com.donkie.quickcart.uploads.infra.integration.s3.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+/**
+ * Finds out which uploads exist in S3 with as few requests as possible.
+ * <p>
+ * Object keys are {@code <differentiator>/<uuid>}, so the uploads of one differentiator are checked with a single
+ * prefix listing (1000 entries per call, renditions rolled up by the {@code /} delimiter) when there are enough of
+ * them to pay off. A listing stops after as many pages as it has uploads to check, and after
+ * {@code max-listed-keys}, so a large prefix never costs more requests than HEADs would. The others, and those a
+ * listing could not settle, are checked with HEAD requests running concurrently up to {@code head-concurrency}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadReconciler {
+    // Entries returned by one ListObjectsV2 call
+    private static final int KEYS_PER_PAGE = 1000;
+
+    private final S3Service s3Service;
+    private final ReconciliationProperties properties;
+
+    /**
+     * Uploads whose check failed are in neither list, they are checked again on the next run.
+     */
+    public record Outcome(List<ImageFile> present, List<ImageFile> absent) {
+    }
+
+    public Outcome reconcile(Collection<ImageFile> files) {
+        Queue<ImageFile> present = new ConcurrentLinkedQueue<>();
+        Queue<ImageFile> absent = new ConcurrentLinkedQueue<>();
+        List<ImageFile> unsettled = new ArrayList<>();
+
+        Map<String, List<ImageFile>> byDifferentiator = files.stream()
+                .collect(Collectors.groupingBy(ImageFile::getDifferentiatorName));
+        byDifferentiator.forEach((differentiator, group) -> {
+            if (group.size() < properties.getListThreshold()) {
+                unsettled.addAll(group);
+            } else {
+                unsettled.addAll(checkByListing(differentiator, group, present, absent));
+            }
+        });
+        checkByHead(unsettled, present, absent);
+
+        return new Outcome(List.copyOf(present), List.copyOf(absent));
+    }
+
+    public static List<UUID> imageIds(Collection<ImageFile> files) {
+        return files.stream().map(ImageFile::getImageId).toList();
+    }
+
+    // ===================== Private Helpers =====================
+
+    /**
+     * @return the uploads the listing could not settle
+     */
+    private List<ImageFile> checkByListing(String differentiator,
+                                           List<ImageFile> group,
+                                           Collection<ImageFile> present,
+                                           Collection<ImageFile> absent) {
+        try {
+            int maxKeys = (int) Math.min(properties.getMaxListedKeys(), (long) group.size() * KEYS_PER_PAGE);
+            var listing = s3Service.listKeys(differentiator + "/", maxKeys);
+            List<ImageFile> unsettled = new ArrayList<>();
+            for (ImageFile file : group) {
+                if (listing.keys().contains(file.getObjectKey())) present.add(file);
+                else if (listing.complete()) absent.add(file);
+                else unsettled.add(file);
+            }
+            return unsettled;
+        } catch (S3Exception e) {
+            log.warn("Listing uploads of '{}' failed, falling back to HEAD requests: {}", differentiator, e.getMessage());
+            return group;
+        }
+    }
+
+    private void checkByHead(List<ImageFile> files, Collection<ImageFile> present, Collection<ImageFile> absent) {
+        if (files.isEmpty()) return;
+        var inFlight = new Semaphore(Math.max(1, properties.getHeadConcurrency()));
+
+        // Closing the executor waits for every submitted check
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ImageFile file : files) {
+                inFlight.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        var head = s3Service.doesObjectExist(file.getObjectKey());
+                        (head.isPresent() ? present : absent).add(file);
+                    } catch (Exception e) {
+                        log.error("Upload check failed (key: {}): {}", file.getObjectKey(), e.getMessage());
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+}
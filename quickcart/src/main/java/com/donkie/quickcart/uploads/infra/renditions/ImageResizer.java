@@ -0,0 +1,112 @@
+package com.donkie.quickcart.uploads.infra.renditions;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Decodes, scales and encodes images with the JDK's own ImageIO codecs (JPEG, PNG, GIF, BMP).
+ * Opaque renditions are written as JPEG, renditions with transparency as PNG.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageResizer {
+    private final RenditionProperties properties;
+
+    public record Encoded(byte[] bytes, String contentType) {
+    }
+
+    /**
+     * @return the first frame of the image, empty when no codec reads the format or the image exceeds
+     * {@code max-source-pixels}. The dimensions are checked before any pixel is decoded.
+     */
+    public Optional<BufferedImage> decode(InputStream in) throws IOException {
+        try (var stream = ImageIO.createImageInputStream(in)) {
+            var readers = stream == null ? null : ImageIO.getImageReaders(stream);
+            if (readers == null || !readers.hasNext()) return Optional.empty();
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > properties.getMaxSourcePixels()) {
+                    log.warn("Image of {} pixels exceeds the {} pixel limit, not resized", pixels, properties.getMaxSourcePixels());
+                    return Optional.empty();
+                }
+                return Optional.of(reader.read(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scales to {@code width}, keeping the aspect ratio, and encodes the result.
+     */
+    public Encoded resize(BufferedImage source, int width) throws IOException {
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+        boolean alpha = source.getColorModel().hasAlpha();
+
+        // Halve until within 2x of the target, a single bilinear step over a larger factor skips pixels and aliases
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        do {
+            w = Math.max(width, w / 2);
+            h = Math.max(height, h / 2);
+            current = scale(current, w, h, alpha);
+        } while (w != width || h != height);
+
+        return alpha ? encodePng(current) : encodeJpeg(current);
+    }
+
+    // ===================== Private Helpers =====================
+
+    private static BufferedImage scale(BufferedImage source, int width, int height, boolean alpha) {
+        var target = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        var graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private Encoded encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        var params = writer.getDefaultWriteParam();
+        params.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        params.setCompressionQuality(properties.getJpegQuality());
+
+        var out = new ByteArrayOutputStream();
+        try (var stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), params);
+        } finally {
+            writer.dispose();
+        }
+        return new Encoded(out.toByteArray(), "image/jpeg");
+    }
+
+    private static Encoded encodePng(BufferedImage image) throws IOException {
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return new Encoded(out.toByteArray(), "image/png");
+    }
+}
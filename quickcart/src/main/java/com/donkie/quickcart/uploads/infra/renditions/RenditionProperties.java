@@ -0,0 +1,55 @@
+package com.donkie.quickcart.uploads.infra.renditions;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "app.uploads.renditions")
+@Getter
+@Setter
+public class RenditionProperties {
+    /**
+     * Generate renditions of completed uploads. Existing renditions are served either way.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Rendition widths in pixels, ascending. A requested width is served by the narrowest one at least as wide.
+     */
+    private List<Integer> widths = List.of(128, 512, 1024);
+
+    /**
+     * Images resized at once on this node, decoding and scaling are CPU bound.
+     */
+    private int concurrency = 2;
+
+    /**
+     * Delay between claims of pending images, in milliseconds.
+     */
+    private long pollIntervalMs = 5000;
+
+    /**
+     * Attempts per image before it is parked as FAILED and only its original is served.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * A claim older than this is considered abandoned by its node and claimed again.
+     */
+    private Duration staleAfter = Duration.ofMinutes(10);
+
+    /**
+     * JPEG quality of opaque renditions, 0..1. Renditions with transparency are written as PNG.
+     */
+    private float jpegQuality = 0.8f;
+
+    /**
+     * Larger originals are not decoded, a decoded image takes 4 bytes per pixel of heap.
+     */
+    private long maxSourcePixels = 40_000_000;
+}
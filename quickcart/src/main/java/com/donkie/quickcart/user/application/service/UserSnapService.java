@@ -3,9 +3,13 @@ package com.donkie.quickcart.user.application.service;
 
 import com.donkie.quickcart.user.adapters.dto.UserSnapshot;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface UserSnapService {
 
     UserSnapshot getUserSnapshot(UUID userId);
+
+    List<UserSnapshot> getUserSnapshots(Collection<UUID> userIds);
 }
@@ -19,4 +19,6 @@ public interface RevokedTokenRepo extends JpaRepository<RevokedToken, String> {
                @Param("exp")Instant exp);
 
     List<RevokedToken> findByExpirationBefore(Instant before);
+
+    List<RevokedToken> findByExpirationAfter(Instant after);
 }
@@ -3,6 +3,8 @@ package com.donkie.quickcart.user.domain.repository;
 import com.donkie.quickcart.user.domain.model.UserProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +13,6 @@ public interface UserProfileRepo extends JpaRepository<UserProfile, UUID> {
     Optional<UserProfile> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    List<UserProfile> findByUserIdIn(Collection<UUID> userIds);
 }
@@ -1,6 +1,7 @@
 package com.donkie.quickcart.user.infra.config;
 
 import com.donkie.quickcart.user.domain.repository.RevokedTokenRepo;
+import com.donkie.quickcart.user.infra.service.RevokedTokenIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +18,7 @@ import java.time.Instant;
 public class CleanupRevokedTokenJob {
 
     private final RevokedTokenRepo revokedTokenRepo;
+    private final RevokedTokenIndex revokedTokenIndex;
 
     /**
      * Clean up expired revoked tokens every minute.
@@ -28,7 +30,8 @@ public class CleanupRevokedTokenJob {
         log.debug("Starting cleanup of expired revoked tokens");
 
         try {
-            var expiredTokens = revokedTokenRepo.findByExpirationBefore(Instant.now());
+            var now = Instant.now();
+            var expiredTokens = revokedTokenRepo.findByExpirationBefore(now);
 
             if (!expiredTokens.isEmpty()) {
                 revokedTokenRepo.deleteAll(expiredTokens);
@@ -36,6 +39,9 @@ public class CleanupRevokedTokenJob {
             } else
                 log.debug("No expired tokens to clean up");
 
+            int pruned = revokedTokenIndex.pruneExpired(now);
+            log.debug("Pruned {} expired entries from the revocation index, {} remaining", pruned, revokedTokenIndex.size());
+
         } catch (Exception e) {
             log.error("Error cleaning up expired revoked tokens", e);
         }
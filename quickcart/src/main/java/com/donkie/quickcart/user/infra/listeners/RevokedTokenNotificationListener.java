@@ -0,0 +1,143 @@
+package com.donkie.quickcart.user.infra.listeners;
+
+import com.donkie.quickcart.user.infra.service.RevokedTokenIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.postgresql.PGProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.Properties;
+
+/**
+ * Keeps the local {@link RevokedTokenIndex} in sync with revocations made on other nodes.
+ * <p>
+ * Every insert into {@code revoked_token} fires a {@code NOTIFY revoked_token} (see V9 migration),
+ * this listener holds a dedicated connection (outside the Hikari pool) that {@code LISTEN}s on that
+ * channel. Whenever the connection is (re)established, the index first catches up from the table so
+ * notifications sent while disconnected are not lost. While the connection is down the index is suspended
+ * and revocation checks go to the database.
+ * <p>
+ * Waiting for notifications raises no error on a half-open connection (failover, NAT timeout), so every idle
+ * poll is followed by a {@code SELECT 1}, bounded by the connection's socket timeout. A connection that does
+ * not answer is treated as lost.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedTokenNotificationListener implements SmartLifecycle {
+    private static final String CHANNEL = "revoked_token";
+    private static final int POLL_TIMEOUT_MILLIS = 5_000;
+    private static final int SOCKET_TIMEOUT_SECONDS = 15;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final RevokedTokenIndex revokedTokenIndex;
+
+    private volatile boolean running = false;
+    private Thread worker;
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("revocation-listener")
+                .daemon(true)
+                .start(this::listenLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        revokedTokenIndex.suspend();
+        if (worker != null) worker.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // ===================== Private Helpers =====================
+
+    private void listenLoop() {
+        long backoff = 1_000;
+        while (running) {
+            try (Connection connection = openConnection()) {
+                try (var statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                int caughtUp = revokedTokenIndex.resume();
+                log.info("Listening for token revocations, caught up on {} revoked tokens", caughtUp);
+                backoff = 1_000;
+
+                var pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications == null) {
+                        ping(connection);
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        apply(notification.getParameter());
+                    }
+                }
+            } catch (Exception e) {
+                revokedTokenIndex.suspend();
+                if (!running) return;
+                log.warn("Revocation listener connection lost, retrying in {} ms", backoff, e);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private Connection openConnection() throws SQLException {
+        var properties = new Properties();
+        PGProperty.USER.set(properties, dataSourceProperties.determineUsername());
+        PGProperty.PASSWORD.set(properties, dataSourceProperties.determinePassword());
+        PGProperty.TCP_KEEP_ALIVE.set(properties, true);
+        PGProperty.SOCKET_TIMEOUT.set(properties, SOCKET_TIMEOUT_SECONDS);
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+    }
+
+    /**
+     * Throws when the server does not answer within the socket timeout, the caller then suspends the index
+     * and reconnects.
+     */
+    private static void ping(Connection connection) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.setQueryTimeout(SOCKET_TIMEOUT_SECONDS);
+            statement.execute("SELECT 1");
+        }
+    }
+
+    /**
+     * Payload format: {@code <expiration epoch millis>:<jti>}.
+     */
+    private void apply(String payload) {
+        int separator = payload.indexOf(':');
+        if (separator <= 0) {
+            log.warn("Ignoring malformed revocation notification: {}", payload);
+            return;
+        }
+        try {
+            var expiration = Instant.ofEpochMilli(Long.parseLong(payload.substring(0, separator)));
+            revokedTokenIndex.add(payload.substring(separator + 1), expiration);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed revocation notification: {}", payload);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.donkie.quickcart.user.infra.service;
+
+import com.donkie.quickcart.user.domain.model.RevokedToken;
+import com.donkie.quickcart.user.domain.repository.RevokedTokenRepo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of the {@code revoked_token} table, keyed by JTI.
+ * <p>
+ * Lets {@link TokenRevocationService#isBlacklisted(String)} answer "not revoked" without a
+ * database round trip. Entries are only kept until the token itself expires, so the index
+ * stays as small as the set of revoked-but-still-valid tokens.
+ * <p>
+ * Entries are only added once the revocation is committed, locally after commit and from other nodes through
+ * the commit time {@code NOTIFY}. A hit is still confirmed against the database by the caller, a hit that is not
+ * confirmed is counted as a false positive and dropped from the index, unless the entry was replaced meanwhile.
+ * <p>
+ * The index only answers while it is in sync: from the moment {@code RevokedTokenNotificationListener}
+ * has its {@code LISTEN} active and has caught up, until that connection is lost. In between, revocations
+ * on other nodes could be missed, so callers fall back to the database.
+ */
+@Slf4j
+@Component
+public class RevokedTokenIndex {
+    private final RevokedTokenRepo revokedTokenRepo;
+    private final Map<String, Instant> entries = new ConcurrentHashMap<>();
+    private volatile boolean inSync = false;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter falsePositives;
+
+    public RevokedTokenIndex(RevokedTokenRepo revokedTokenRepo, MeterRegistry meterRegistry) {
+        this.revokedTokenRepo = revokedTokenRepo;
+
+        Gauge.builder("quickcart.revocation.index.size", entries, Map::size)
+                .description("Revoked tokens held in the in-memory index")
+                .register(meterRegistry);
+        Gauge.builder("quickcart.revocation.index.false.positive.rate", this, RevokedTokenIndex::falsePositiveRate)
+                .description("Share of index hits not confirmed by the database")
+                .register(meterRegistry);
+
+        this.hits = Counter.builder("quickcart.revocation.index.lookups").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("quickcart.revocation.index.lookups").tag("result", "miss").register(meterRegistry);
+        this.falsePositives = Counter.builder("quickcart.revocation.index.false.positives").register(meterRegistry);
+    }
+
+    /**
+     * Catches up from the database and starts answering lookups. Called once {@code LISTEN} is active, so
+     * a revocation is either in the table read here or notified afterwards.
+     *
+     * @return the number of rows read
+     */
+    public int resume() {
+        int count = catchUp();
+        inSync = true;
+        return count;
+    }
+
+    /**
+     * Stops answering lookups until the next {@link #resume()}, called when notifications may be missed.
+     */
+    public void suspend() {
+        if (inSync) log.warn("Revocation index out of sync, revocation checks will hit the database");
+        inSync = false;
+    }
+
+    /**
+     * Merges every unexpired row of {@code revoked_token} into the index. Entries are only ever added
+     * here, removal is left to expiry pruning so a concurrent local revocation can never be lost.
+     *
+     * @return the number of rows read
+     */
+    public int catchUp() {
+        List<RevokedToken> tokens = revokedTokenRepo.findByExpirationAfter(Instant.now());
+        tokens.forEach(token -> entries.put(token.getJti(), token.getExpiration()));
+        return tokens.size();
+    }
+
+    public boolean isInSync() {
+        return inSync;
+    }
+
+    public void add(String jti, Instant expiration) {
+        entries.put(jti, expiration);
+    }
+
+    /**
+     * @return the expiration of the live entry held for the token, empty if the token is definitely not revoked
+     */
+    public Optional<Instant> lookup(String jti) {
+        var expiration = entries.get(jti);
+        if (expiration == null || expiration.isBefore(Instant.now())) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(expiration);
+    }
+
+    /**
+     * Drops the entry seen by {@link #lookup(String)}, only if it still maps to the expiration seen then, so an
+     * entry re-added by a later revocation is kept.
+     */
+    public void recordFalsePositive(String jti, Instant observedExpiration) {
+        falsePositives.increment();
+        entries.remove(jti, observedExpiration);
+    }
+
+    /**
+     * Drops the entries of tokens that have expired by the given instant.
+     *
+     * @return the number of entries removed
+     */
+    public int pruneExpired(Instant now) {
+        int before = entries.size();
+        entries.values().removeIf(expiration -> expiration.isBefore(now));
+        return before - entries.size();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private double falsePositiveRate() {
+        double total = hits.count();
+        return total == 0 ? 0 : falsePositives.count() / total;
+    }
+}
@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
 
@@ -15,6 +17,7 @@ import java.time.Instant;
 public class TokenRevocationService {
 
     private final RevokedTokenRepo revokedTokenRepo;
+    private final RevokedTokenIndex revokedTokenIndex;
 
     /**
      * Blacklist a token by its JTI until expiration time.
@@ -33,6 +36,8 @@ public class TokenRevocationService {
             token.setExpiration(expiration);
 
             revokedTokenRepo.save(token);
+            // Indexed once committed, a lookup must not find an entry the database cannot confirm yet
+            afterCommit(() -> revokedTokenIndex.add(jti, expiration));
             log.debug("Token {} blacklisted until {}", jti, expiration);
         } else {
             log.debug("Token {} already expired, not blacklisting", jti);
@@ -41,12 +46,26 @@ public class TokenRevocationService {
 
     /**
      * Check if a token is blacklisted.
+     * The in-memory index answers the common "not revoked" case, only index hits are confirmed with the database.
      */
     public boolean isBlacklisted(String jti) {
         if (jti == null) {
             return false;
         }
-        return revokedTokenRepo.existsById(jti);
+        if (!revokedTokenIndex.isInSync()) {
+            return revokedTokenRepo.existsById(jti);
+        }
+        var indexed = revokedTokenIndex.lookup(jti);
+        if (indexed.isEmpty()) {
+            return false;
+        }
+
+        boolean revoked = revokedTokenRepo.existsById(jti);
+        if (!revoked) {
+            log.debug("Revocation index hit for {} not confirmed by the database", jti);
+            revokedTokenIndex.recordFalsePositive(jti, indexed.get());
+        }
+        return revoked;
     }
 
     /**
@@ -54,10 +73,27 @@ public class TokenRevocationService {
      */
     @Transactional
     public void cleanupExpiredTokens() {
-        var expiredTokens = revokedTokenRepo.findByExpirationBefore(Instant.now());
+        var now = Instant.now();
+        var expiredTokens = revokedTokenRepo.findByExpirationBefore(now);
         if (!expiredTokens.isEmpty()) {
             revokedTokenRepo.deleteAll(expiredTokens);
             log.info("Cleaned up {} expired blacklisted tokens", expiredTokens.size());
         }
+        revokedTokenIndex.pruneExpired(now);
+    }
+
+    // ===================== Private Helpers =====================
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -1,29 +1,64 @@
 package com.donkie.quickcart.user.infra.service;
 
+import com.donkie.quickcart.shared.cache.CacheNames;
+import com.donkie.quickcart.shared.cache.CachedLookup;
 import com.donkie.quickcart.user.adapters.dto.UserSnapshot;
 import com.donkie.quickcart.user.application.service.UserSnapService;
+import com.donkie.quickcart.user.domain.model.UserProfile;
 import com.donkie.quickcart.user.domain.repository.UserProfileRepo;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
 @AllArgsConstructor
 public class UserSnapServiceImpl implements UserSnapService {
     private final UserProfileRepo userRepository;
+    private final CacheManager cacheManager;
 
+    @Cacheable(cacheNames = CacheNames.USER_SNAPSHOTS, key = "#userId")
     @Transactional
     @Override
     public UserSnapshot getUserSnapshot(UUID userId) {
         return userRepository.findById(userId)
-                .map(profile -> new UserSnapshot(
-                        profile.getUserId(),
-                        profile.getFirstName(),
-                        profile.getLastName(),
-                        profile.getEmail()))
+                .map(this::toUserSnapshot)
                 .orElseThrow(() -> new UsernameNotFoundException("Failed to find user profile by Id: " + userId));
     }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<UserSnapshot> getUserSnapshots(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) return List.of();
+        var cache = Objects.requireNonNull(cacheManager.getCache(CacheNames.USER_SNAPSHOTS),
+                "Cache not configured: " + CacheNames.USER_SNAPSHOTS);
+        return CachedLookup.getAll(cache, new HashSet<>(userIds), UserSnapshot::userId, this::loadUserSnapshots);
+    }
+
+    private List<UserSnapshot> loadUserSnapshots(Set<UUID> userIds) {
+        var ids = new HashSet<>(userIds);
+        var profiles = userRepository.findByUserIdIn(ids);
+        if (profiles.size() != ids.size()) {
+            profiles.forEach(profile -> ids.remove(profile.getUserId()));
+            throw new UsernameNotFoundException("Failed to find user profiles by Ids: " + ids);
+        }
+        return profiles.stream().map(this::toUserSnapshot).toList();
+    }
+
+    private UserSnapshot toUserSnapshot(UserProfile profile) {
+        return new UserSnapshot(
+                profile.getUserId(),
+                profile.getFirstName(),
+                profile.getLastName(),
+                profile.getEmail());
+    }
 }
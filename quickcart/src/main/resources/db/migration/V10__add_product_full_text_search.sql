@@ -0,0 +1,86 @@
+-- ============================================================
+-- Full text search over products.
+-- Weights: A = title, B = brand, C = category path and variant
+-- titles / attribute values, D = description.
+-- The 'simple' configuration is used on purpose: no stemming, so
+-- prefix queries ('iph:*') and brand names match as typed.
+-- ============================================================
+
+ALTER TABLE product ADD COLUMN IF NOT EXISTS search_vector TSVECTOR;
+
+
+-- ============================================================
+-- 1) Search text contributed by the live variants of a product
+-- ============================================================
+CREATE OR REPLACE FUNCTION product_variant_search_text(p_product_id UUID) RETURNS TEXT AS $$
+    SELECT COALESCE(string_agg(
+               pv.title || ' ' || COALESCE((SELECT string_agg(a.value, ' ')
+                                            FROM jsonb_each_text(pv.attributes) a), ''),
+               ' '), '')
+    FROM product_variant pv
+    WHERE pv.product_id = p_product_id
+      AND pv.is_deleted = FALSE;
+$$ LANGUAGE sql STABLE;
+
+
+-- ============================================================
+-- 2) Weighted document of a product
+-- ============================================================
+CREATE OR REPLACE FUNCTION build_product_search_vector(
+    p_product_id UUID,
+    p_title TEXT,
+    p_brand TEXT,
+    p_category_path TEXT,
+    p_description TEXT
+) RETURNS TSVECTOR AS $$
+    SELECT setweight(to_tsvector('simple', COALESCE(p_title, '')), 'A')
+        || setweight(to_tsvector('simple', COALESCE(p_brand, '')), 'B')
+        || setweight(to_tsvector('simple', replace(COALESCE(p_category_path, ''), '/', ' ')), 'C')
+        || setweight(to_tsvector('simple', product_variant_search_text(p_product_id)), 'C')
+        || setweight(to_tsvector('simple', COALESCE(p_description, '')), 'D');
+$$ LANGUAGE sql STABLE;
+
+
+-- ============================================================
+-- 3) Maintenance triggers
+-- ============================================================
+CREATE OR REPLACE FUNCTION product_search_vector_refresh() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector := build_product_search_vector(
+        NEW.product_id, NEW.title, NEW.brand, NEW.category_path, NEW.description);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_product_search_vector
+    BEFORE INSERT OR UPDATE OF title, brand, category_path, description ON product
+    FOR EACH ROW
+    EXECUTE FUNCTION product_search_vector_refresh();
+
+-- Variant changes re-index the owning product (only search_vector is written, so the trigger above does not fire)
+CREATE OR REPLACE FUNCTION product_variant_search_vector_refresh() RETURNS TRIGGER AS $$
+DECLARE
+    v_product_id UUID := COALESCE(NEW.product_id, OLD.product_id);
+BEGIN
+    UPDATE product p
+    SET search_vector = build_product_search_vector(
+            p.product_id, p.title, p.brand, p.category_path, p.description)
+    WHERE p.product_id = v_product_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_product_variant_search_vector
+    AFTER INSERT OR DELETE OR UPDATE OF title, attributes, is_deleted ON product_variant
+    FOR EACH ROW
+    EXECUTE FUNCTION product_variant_search_vector_refresh();
+
+
+-- ============================================================
+-- 4) Backfill and index
+-- ============================================================
+UPDATE product
+SET search_vector = build_product_search_vector(product_id, title, brand, category_path, description);
+
+CREATE INDEX IF NOT EXISTS idx_product_search_vector
+ON product USING GIN (search_vector);
@@ -0,0 +1,11 @@
+-- ============================================================
+-- Trigram indexes for substring and fuzzy matching on product.
+-- Serve lower(col) LIKE '%x%' as well as the similarity operator (%).
+-- ============================================================
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_product_brand_trgm
+ON product USING GIN (lower(brand) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_product_title_trgm
+ON product USING GIN (lower(title) gin_trgm_ops);
@@ -0,0 +1,23 @@
+-- ============================================================
+-- Composite indexes backing keyset pagination, newest first,
+-- ties broken by primary key: (created_date DESC, id DESC).
+-- ============================================================
+
+-- Public product listing (filters always restrict to active, non-deleted products)
+CREATE INDEX IF NOT EXISTS idx_product_active_created_date
+ON product (created_date DESC, product_id DESC)
+WHERE is_active = TRUE AND is_deleted = FALSE;
+
+-- Products of a store
+CREATE INDEX IF NOT EXISTS idx_product_store_created_date
+ON product (store_id, created_date DESC, product_id DESC);
+
+-- Orders of a customer
+CREATE INDEX IF NOT EXISTS idx_orders_created_by_created_date
+ON orders (created_by, created_date DESC, order_id DESC);
+
+-- Ordered items of a store, supersedes the single column store_id index
+CREATE INDEX IF NOT EXISTS idx_order_item_store_created_date
+ON order_item (store_id, created_date DESC, item_id DESC);
+
+DROP INDEX IF EXISTS idx_order_item_store_id;
@@ -0,0 +1,27 @@
+-- ============================================================
+-- Transactional outbox: domain events written in the same
+-- transaction as the change that raised them, processed by
+-- OutboxPoller on any replica (claimed with SKIP LOCKED).
+-- ============================================================
+CREATE TABLE IF NOT EXISTS outbox_event (
+    event_id UUID PRIMARY KEY,
+    event_type TEXT NOT NULL,
+    aggregate_id UUID NOT NULL,
+    payload TEXT NOT NULL,
+    status TEXT NOT NULL DEFAULT 'PENDING',   -- PENDING, PROCESSED, FAILED
+    attempts INT NOT NULL DEFAULT 0,
+    available_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    last_error TEXT,
+    created_date TIMESTAMPTZ NOT NULL DEFAULT now(),
+    processed_date TIMESTAMPTZ
+);
+
+-- Claim order of pending events, kept small by the status predicate
+CREATE INDEX IF NOT EXISTS idx_outbox_event_pending
+ON outbox_event (created_date)
+WHERE status = 'PENDING';
+
+-- Retention cleanup of processed events
+CREATE INDEX IF NOT EXISTS idx_outbox_event_processed
+ON outbox_event (processed_date)
+WHERE status = 'PROCESSED';
@@ -0,0 +1,24 @@
+-- ============================================================
+-- Chunked orphaning of a deleted store's catalogue: products
+-- are walked in product_id order, one committed batch at a
+-- time, the last processed ID is checkpointed so a crashed or
+-- retried run resumes where it stopped.
+-- ============================================================
+CREATE TABLE IF NOT EXISTS store_orphaning_checkpoint (
+    store_id UUID PRIMARY KEY,
+    last_product_id UUID,                       -- NULL until the first batch commits
+    products_orphaned BIGINT NOT NULL DEFAULT 0,
+    variants_orphaned BIGINT NOT NULL DEFAULT 0,
+    batches INT NOT NULL DEFAULT 0,
+    started_date TIMESTAMPTZ NOT NULL DEFAULT now(),
+    last_modified_date TIMESTAMPTZ NOT NULL DEFAULT now(),
+    completed_date TIMESTAMPTZ
+);
+
+-- Keyset walk over the products of a store
+CREATE INDEX IF NOT EXISTS idx_product_store_product_id
+ON product (store_id, product_id);
+
+-- Variants of a batch of products
+CREATE INDEX IF NOT EXISTS idx_variant_product_id
+ON product_variant (product_id);
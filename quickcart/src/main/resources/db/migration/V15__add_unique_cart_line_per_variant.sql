@@ -0,0 +1,35 @@
+-- ============================================================
+-- One cart line per variant: adding a variant already in the
+-- cart increases the quantity of its line (upsert on this key).
+-- ============================================================
+
+-- Fold existing duplicates into the oldest line of each (cart, variant)
+WITH ranked AS (
+    SELECT item_id,
+           first_value(item_id) OVER w AS keep_id,
+           SUM(quantity) OVER (PARTITION BY cart_id, product_variant_id) AS total_quantity
+    FROM cart_item
+    WINDOW w AS (PARTITION BY cart_id, product_variant_id ORDER BY created_date, item_id)
+)
+UPDATE cart_item ci
+SET quantity = r.total_quantity,
+    last_modified_date = now()
+FROM ranked r
+WHERE ci.item_id = r.item_id
+  AND r.item_id = r.keep_id
+  AND ci.quantity IS DISTINCT FROM r.total_quantity;
+
+DELETE FROM cart_item ci
+USING (
+    SELECT item_id,
+           first_value(item_id) OVER (PARTITION BY cart_id, product_variant_id ORDER BY created_date, item_id) AS keep_id
+    FROM cart_item
+) r
+WHERE ci.item_id = r.item_id
+  AND r.item_id <> r.keep_id;
+
+-- Leading cart_id column also serves the lookups of idx_cart_item_cart_id
+CREATE UNIQUE INDEX IF NOT EXISTS uq_cart_item_cart_variant
+ON cart_item (cart_id, product_variant_id);
+
+DROP INDEX IF EXISTS idx_cart_item_cart_id;
@@ -0,0 +1,6 @@
+-- ============================================================
+-- Optimistic locking for product variants: seller edits check
+-- the version, stock reservations and releases bump it.
+-- ============================================================
+ALTER TABLE product_variant
+ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,21 @@
+-- ============================================================
+-- Striped stock for hot variants: the stock of a variant with
+-- stock_buckets > 0 lives in that many bucket rows, checkout
+-- decrements one bucket instead of contending on the variant
+-- row. product_variant.quantity is then always 0.
+-- ============================================================
+ALTER TABLE product_variant
+ADD COLUMN IF NOT EXISTS stock_buckets INT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS product_variant_stock_bucket (
+    variant_id UUID NOT NULL,
+    bucket INT NOT NULL,          -- 0 .. stock_buckets - 1
+    quantity INT NOT NULL,
+
+    CONSTRAINT pk_product_variant_stock_bucket PRIMARY KEY (variant_id, bucket),
+    CONSTRAINT chk_stock_bucket_quantity CHECK (quantity >= 0),
+    CONSTRAINT fk_stock_bucket_variant
+        FOREIGN KEY (variant_id)
+        REFERENCES product_variant(variant_id)
+        ON DELETE CASCADE
+);
@@ -0,0 +1,35 @@
+-- ============================================================
+-- Resized renditions of uploaded images. image_file doubles as
+-- the work queue: a completed upload is PENDING until a worker
+-- claims it (PROCESSING) and stores its renditions (READY).
+-- Originals smaller than every rendition width, or in a format
+-- the JVM cannot decode, end up SKIPPED.
+-- ============================================================
+ALTER TABLE image_file
+ADD COLUMN IF NOT EXISTS rendition_status VARCHAR(20),
+ADD COLUMN IF NOT EXISTS rendition_attempts INT NOT NULL DEFAULT 0,
+ADD COLUMN IF NOT EXISTS rendition_claimed_date TIMESTAMP WITH TIME ZONE;
+
+-- Backfill: every completed upload gets its renditions
+UPDATE image_file
+SET rendition_status = 'PENDING'
+WHERE upload_status = 'UPLOAD_COMPLETE'
+  AND rendition_status IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_image_file_rendition_queue
+    ON image_file (rendition_status)
+    WHERE rendition_status IN ('PENDING', 'PROCESSING');
+
+CREATE TABLE IF NOT EXISTS image_rendition (
+    image_id UUID NOT NULL,
+    width INT NOT NULL,
+    object_key VARCHAR(255) NOT NULL,
+    content_type VARCHAR(255) NOT NULL,
+    size_bytes BIGINT NOT NULL,
+
+    CONSTRAINT pk_image_rendition PRIMARY KEY (image_id, width),
+    CONSTRAINT fk_image_rendition_image
+        FOREIGN KEY (image_id)
+        REFERENCES image_file(image_id)
+        ON DELETE CASCADE
+);
@@ -0,0 +1,20 @@
+-- ============================================================
+-- Variant changes no longer re-index a deleted product.
+-- Orphaning a product's V variants fired one rebuild per row,
+-- each aggregating all V variants, O(V^2) per product. A
+-- deleted product is not searched, so its vector is left as is;
+-- orphaning marks the products before their variants, so every
+-- variant update of a bulk orphaning skips the rebuild.
+-- ============================================================
+CREATE OR REPLACE FUNCTION product_variant_search_vector_refresh() RETURNS TRIGGER AS $$
+DECLARE
+    v_product_id UUID := COALESCE(NEW.product_id, OLD.product_id);
+BEGIN
+    UPDATE product p
+    SET search_vector = build_product_search_vector(
+            p.product_id, p.title, p.brand, p.category_path, p.description)
+    WHERE p.product_id = v_product_id
+      AND p.is_deleted = FALSE;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
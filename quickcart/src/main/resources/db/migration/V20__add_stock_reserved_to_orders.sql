@@ -0,0 +1,7 @@
+-- ============================================================
+-- Orders placed since V16 reserve their stock, older orders
+-- never did. The flag tells cancellation whether there is a
+-- reservation to release, existing orders default to none.
+-- ============================================================
+ALTER TABLE orders
+ADD COLUMN IF NOT EXISTS stock_reserved BOOLEAN NOT NULL DEFAULT FALSE;
@@ -0,0 +1,10 @@
+-- ============================================================
+-- Outbox batches are leased rather than locked while handlers
+-- run: a claimed event is PROCESSING until available_at, then
+-- claimable again. The claim index covers both statuses.
+-- ============================================================
+DROP INDEX IF EXISTS idx_outbox_event_pending;
+
+CREATE INDEX IF NOT EXISTS idx_outbox_event_claimable
+ON outbox_event (created_date)
+WHERE status IN ('PENDING', 'PROCESSING');
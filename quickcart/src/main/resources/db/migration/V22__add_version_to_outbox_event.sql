@@ -0,0 +1,7 @@
+-- ============================================================
+-- Optimistic locking for outbox events: every claim bumps the
+-- version, so a poller whose lease ran out cannot overwrite the
+-- outcome of the poller that claimed the event after it.
+-- ============================================================
+ALTER TABLE outbox_event
+ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,18 @@
+-- ============================================================
+-- Broadcast token revocations to every application node.
+-- Payload: '<expiration epoch millis>:<jti>', delivered on commit.
+-- ============================================================
+CREATE OR REPLACE FUNCTION notify_token_revoked() RETURNS TRIGGER AS $$
+BEGIN
+    PERFORM pg_notify(
+        'revoked_token',
+        (EXTRACT(EPOCH FROM NEW.expiration) * 1000)::BIGINT || ':' || NEW.jti
+    );
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_revoked_token_notify
+    AFTER INSERT ON revoked_token
+    FOR EACH ROW
+    EXECUTE FUNCTION notify_token_revoked();
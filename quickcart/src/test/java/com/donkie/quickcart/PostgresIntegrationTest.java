@@ -0,0 +1,47 @@
+package com.donkie.quickcart;
+
+import com.donkie.quickcart.user.infra.config.DefaultAdminConfig;
+import com.donkie.quickcart.user.infra.integration.keycloak.KeycloakClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Boots the application against a throwaway PostgreSQL migrated by Flyway. Keycloak is mocked and the other
+ * external services only get placeholder settings, so tests must stay on the database paths.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(properties = {
+        "KEYCLOAK_JWKS_URI=http://localhost/jwks",
+        "KEYCLOAK_URL=http://localhost",
+        "KEYCLOAK_REALM=quickcart",
+        "KEYCLOAK_CLIENT_ID=quickcart",
+        "KEYCLOAK_CLIENT_SECRET=secret",
+        "APP_ADMIN_USERNAME=admin",
+        "APP_ADMIN_PASSWORD=admin",
+        "AWS_REGION=us-east-1",
+        "AWS_BUCKET=quickcart-test"
+})
+public abstract class PostgresIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @MockitoBean
+    KeycloakClient keycloakClient;
+
+    @MockitoBean
+    DefaultAdminConfig defaultAdminConfig; // registers the admin in Keycloak on startup
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+}
@@ -0,0 +1,145 @@
+package com.donkie.quickcart.orders.infra.service;
+
+import com.donkie.quickcart.PostgresIntegrationTest;
+import com.donkie.quickcart.orders.application.exception.OutOfStockException;
+import com.donkie.quickcart.orders.application.service.OrderService;
+import com.donkie.quickcart.orders.domain.exception.OrderNotCancellableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderStockReservationTests extends PostgresIntegrationTest {
+    private static final int STOCK = 5;
+    private static final int BUYERS = 40;
+
+    @Autowired
+    OrderService orderService;
+    @Autowired
+    JdbcTemplate jdbc;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID storeId = UUID.randomUUID();
+    private final UUID productId = UUID.randomUUID();
+    private final UUID variantId = UUID.randomUUID();
+    private final UUID cartId = UUID.randomUUID();
+
+    @BeforeEach
+    void seedCatalogueAndCart() {
+        jdbc.update("INSERT INTO store (store_id, name) VALUES (?, 'Test store')", storeId);
+        jdbc.update("""
+                INSERT INTO product (product_id, title, brand, category_path, store_id)
+                VALUES (?, 'Test product', 'Test brand', 'test', ?)
+                """, productId, storeId);
+        jdbc.update("""
+                INSERT INTO product_variant (variant_id, title, price, quantity, product_id)
+                VALUES (?, 'Test variant', 10, ?, ?)
+                """, variantId, STOCK, productId);
+        jdbc.update("INSERT INTO cart (cart_id, created_by) VALUES (?, ?)", cartId, userId.toString());
+        jdbc.update("""
+                INSERT INTO cart_item (item_id, product_variant_id, store_id, quantity, cart_id, created_by)
+                VALUES (?, ?, ?, 1, ?, ?)
+                """, UUID.randomUUID(), variantId, storeId, cartId, userId.toString());
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void concurrentCheckoutsNeverOversell() throws Exception {
+        var start = new CountDownLatch(1);
+        List<Future<Boolean>> checkouts = new ArrayList<>();
+
+        try (var executor = Executors.newFixedThreadPool(BUYERS)) {
+            for (int i = 0; i < BUYERS; i++) {
+                checkouts.add(executor.submit(() -> {
+                    authenticate();
+                    start.await();
+                    try {
+                        orderService.createOrder(cartId, "Test address");
+                        return true;
+                    } catch (OutOfStockException e) {
+                        return false;
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                }));
+            }
+            start.countDown();
+        }
+
+        int placed = 0;
+        for (var checkout : checkouts) {
+            if (getUnwrapped(checkout)) placed++;
+        }
+        assertThat(placed).isEqualTo(STOCK);
+        assertThat(quantity()).isZero();
+        assertThat(ordersOfUser()).isEqualTo(STOCK);
+    }
+
+    @Test
+    void cancellingReleasesTheReservationOnce() {
+        authenticate();
+        orderService.createOrder(cartId, "Test address");
+        UUID orderId = lastOrderId();
+        assertThat(quantity()).isEqualTo(STOCK - 1);
+
+        orderService.cancelOrder(orderId);
+        orderService.cancelOrder(orderId);
+        assertThat(quantity()).isEqualTo(STOCK);
+    }
+
+    @Test
+    void shippedOrderCannotBeCancelled() {
+        authenticate();
+        orderService.createOrder(cartId, "Test address");
+        UUID orderId = lastOrderId();
+        orderService.shipOrder(orderId);
+
+        assertThatThrownBy(() -> orderService.cancelOrder(orderId)).isInstanceOf(OrderNotCancellableException.class);
+        assertThat(quantity()).isEqualTo(STOCK - 1);
+    }
+
+    // ===================== Private Helpers =====================
+
+    private void authenticate() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(userId.toString(), null));
+    }
+
+    private int quantity() {
+        return jdbc.queryForObject("SELECT quantity FROM product_variant WHERE variant_id = ?", Integer.class, variantId);
+    }
+
+    private int ordersOfUser() {
+        return jdbc.queryForObject("SELECT count(*) FROM orders WHERE created_by = ?", Integer.class, userId.toString());
+    }
+
+    private UUID lastOrderId() {
+        return jdbc.queryForObject("SELECT order_id FROM orders WHERE created_by = ? ORDER BY created_date DESC LIMIT 1",
+                UUID.class, userId.toString());
+    }
+
+    private static boolean getUnwrapped(Future<Boolean> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+}
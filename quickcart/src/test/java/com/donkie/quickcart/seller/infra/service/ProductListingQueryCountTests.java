@@ -0,0 +1,98 @@
+package com.donkie.quickcart.seller.infra.service;
+
+import com.donkie.quickcart.PostgresIntegrationTest;
+import com.donkie.quickcart.seller.application.service.contracts.ProductService;
+import com.donkie.quickcart.shared.observability.RequestSqlStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A listing page is the product page query plus one query for the variants and images of every product on it,
+ * whatever the number of products, variants and images.
+ */
+class ProductListingQueryCountTests extends PostgresIntegrationTest {
+    private static final int PRODUCTS = 30;
+    private static final int VARIANTS_PER_PRODUCT = 3;
+    private static final int IMAGES_PER_VARIANT = 2;
+    private static final int PAGE_SIZE = 25;
+
+    @Autowired
+    ProductService productService;
+    @Autowired
+    JdbcTemplate jdbc;
+
+    private final UUID storeId = UUID.randomUUID();
+
+    @BeforeEach
+    void seedCatalogue() {
+        jdbc.update("INSERT INTO store (store_id, name) VALUES (?, 'Test store')", storeId);
+        var createdDate = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        for (int p = 0; p < PRODUCTS; p++) {
+            UUID productId = UUID.randomUUID();
+            jdbc.update("""
+                    INSERT INTO product (product_id, title, brand, category_path, store_id, created_date)
+                    VALUES (?, ?, 'Test brand', 'test', ?, ?)
+                    """, productId, "Product " + p, storeId, Timestamp.from(createdDate.minusSeconds(p)));
+            for (int v = 0; v < VARIANTS_PER_PRODUCT; v++) {
+                UUID variantId = UUID.randomUUID();
+                jdbc.update("""
+                        INSERT INTO product_variant (variant_id, title, price, quantity, product_id)
+                        VALUES (?, ?, 10, 5, ?)
+                        """, variantId, "Variant " + v, productId);
+                for (int i = 0; i < IMAGES_PER_VARIANT; i++) {
+                    UUID imageId = UUID.randomUUID();
+                    jdbc.update("""
+                            INSERT INTO image_file (image_id, object_key, differentiator_name, upload_status, created_by)
+                            VALUES (?, ?, 'products', 'UPLOAD_COMPLETE', 'test')
+                            """, imageId, "products/" + imageId);
+                    jdbc.update("INSERT INTO product_variant_images (variant_id, image_id) VALUES (?, ?)", variantId, imageId);
+                }
+            }
+        }
+    }
+
+    @Test
+    void firstPageTakesTwoStatements() {
+        var page = countStatements(() -> productService.scrollProductsByStore(storeId, null, PAGE_SIZE, false));
+
+        assertThat(page.result().content()).hasSize(PAGE_SIZE)
+                .allSatisfy(product -> assertThat(product.variants()).hasSize(VARIANTS_PER_PRODUCT));
+        assertThat(page.statements()).isEqualTo(2);
+    }
+
+    @Test
+    void nextPageWithTotalTakesThreeStatements() {
+        var first = productService.scrollProductsByStore(storeId, null, PAGE_SIZE, false);
+        var next = countStatements(() -> productService.scrollProductsByStore(storeId, first.nextCursor(), PAGE_SIZE, true));
+
+        assertThat(next.result().content()).hasSize(PRODUCTS - PAGE_SIZE);
+        assertThat(next.statements()).isEqualTo(3);
+    }
+
+    // ===================== Private Helpers =====================
+
+    private record Counted<T>(T result, int statements) {
+    }
+
+    private static <T> Counted<T> countStatements(Supplier<T> call) {
+        RequestSqlStats.begin();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            RequestSqlStats.end();
+            throw e;
+        }
+        return new Counted<>(result, RequestSqlStats.end().statements());
+    }
+}
@@ -0,0 +1,66 @@
+package com.donkie.quickcart.shared.http;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestConcurrencyFilterTests {
+    private final RequestConcurrencyFilter filter = new RequestConcurrencyFilter(1, Duration.ofMillis(50));
+
+    @Test
+    void requestOverTheLimitIsRejectedWithRetryAfter() throws Exception {
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var first = executor.submit(() -> {
+                var response = new MockHttpServletResponse();
+                filter.doFilter(request("/api/v1/orders"), response, (req, res) -> {
+                    entered.countDown();
+                    awaitUninterruptibly(release);
+                });
+                return response.getStatus();
+            });
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            var rejected = new MockHttpServletResponse();
+            filter.doFilter(request("/api/v1/orders"), rejected, new MockFilterChain());
+            assertThat(rejected.getStatus()).isEqualTo(503);
+            assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+            var actuator = new MockHttpServletResponse();
+            filter.doFilter(request("/actuator/health"), actuator, new MockFilterChain());
+            assertThat(actuator.getStatus()).isEqualTo(200);
+
+            release.countDown();
+            assertThat(first.get()).isEqualTo(200);
+        }
+
+        var afterRelease = new MockHttpServletResponse();
+        filter.doFilter(request("/api/v1/orders"), afterRelease, new MockFilterChain());
+        assertThat(afterRelease.getStatus()).isEqualTo(200);
+    }
+
+    // ===================== Private Helpers =====================
+
+    private static MockHttpServletRequest request(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.donkie.quickcart.shared.outbox;
+
+import com.donkie.quickcart.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A poller whose lease ran out must not overwrite the claim of the poller that took the event over.
+ */
+class OutboxLeaseTests extends PostgresIntegrationTest {
+    // Far beyond the test, so the scheduled poller leaves the event alone
+    private static final Duration LEASE = Duration.ofHours(1);
+
+    @Autowired
+    OutboxEventRepository outboxEventRepository;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void lateOutcomeOfAReclaimedEventIsRejected() {
+        var transaction = new TransactionTemplate(transactionManager);
+        UUID eventId = outboxEventRepository.save(OutboxEvent.create("test.event", UUID.randomUUID(), "{}")).getEventId();
+
+        OutboxEvent slowPoller = transaction.execute(status -> claim(eventId));
+        OutboxEvent nextPoller = transaction.execute(status -> claim(eventId));
+
+        slowPoller.markProcessed();
+        assertThatThrownBy(() -> transaction.executeWithoutResult(status -> outboxEventRepository.save(slowPoller)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        nextPoller.markProcessed();
+        transaction.executeWithoutResult(status -> outboxEventRepository.save(nextPoller));
+
+        var stored = outboxEventRepository.findById(eventId).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(OutboxStatus.PROCESSED);
+        assertThat(stored.getAttempts()).isEqualTo(1);
+    }
+
+    // ===================== Private Helpers =====================
+
+    private OutboxEvent claim(UUID eventId) {
+        var event = outboxEventRepository.findById(eventId).orElseThrow();
+        event.claim(LEASE);
+        return event;
+    }
+}
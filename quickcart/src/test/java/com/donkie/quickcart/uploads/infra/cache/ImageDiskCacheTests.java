@@ -0,0 +1,54 @@
+package com.donkie.quickcart.uploads.infra.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Instances sharing the cache root prune only the subdirectories nobody holds a lock on.
+ */
+class ImageDiskCacheTests {
+    @TempDir
+    Path root;
+
+    @Test
+    void startupRemovesAbandonedInstancesOnly() throws IOException {
+        Path abandoned = Files.createDirectory(root.resolve("instance-abandoned"));
+        Files.writeString(abandoned.resolve("image.img"), "stale");
+        Path abandonedLock = Files.createFile(root.resolve("instance-abandoned.lock"));
+
+        var first = start();
+        var second = start();
+        try {
+            assertThat(abandoned).doesNotExist();
+            assertThat(abandonedLock).doesNotExist();
+            assertThat(instanceDirectories()).isEqualTo(2);
+        } finally {
+            second.shutdown();
+            first.shutdown();
+        }
+        assertThat(instanceDirectories()).isZero();
+    }
+
+    // ===================== Private Helpers =====================
+
+    private ImageDiskCache start() throws IOException {
+        var properties = new ImageCacheProperties();
+        properties.setDirectory(root);
+        var cache = new ImageDiskCache(properties, new SimpleMeterRegistry());
+        cache.init();
+        return cache;
+    }
+
+    private long instanceDirectories() throws IOException {
+        try (var paths = Files.list(root)) {
+            return paths.filter(Files::isDirectory).count();
+        }
+    }
+}
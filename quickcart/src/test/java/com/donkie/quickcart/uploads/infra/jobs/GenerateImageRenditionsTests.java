@@ -0,0 +1,50 @@
+package com.donkie.quickcart.uploads.infra.jobs;
+
+import com.donkie.quickcart.PostgresIntegrationTest;
+import com.donkie.quickcart.uploads.infra.renditions.RenditionProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerateImageRenditionsTests extends PostgresIntegrationTest {
+    @Autowired
+    GenerateImageRenditions generateImageRenditions;
+    @Autowired
+    RenditionProperties properties;
+    @Autowired
+    JdbcTemplate jdbc;
+
+    @Test
+    void staleClaimOnTheLastAttemptIsParkedAsFailed() {
+        var staleClaim = Instant.now().minus(properties.getStaleAfter()).minusSeconds(60);
+        UUID abandoned = seedClaim(properties.getMaxAttempts(), staleClaim);
+        UUID inProgress = seedClaim(properties.getMaxAttempts(), Instant.now());
+
+        generateImageRenditions.poll();
+
+        assertThat(renditionStatus(abandoned)).isEqualTo("FAILED");
+        assertThat(renditionStatus(inProgress)).isEqualTo("PROCESSING");
+    }
+
+    // ===================== Private Helpers =====================
+
+    private UUID seedClaim(int attempts, Instant claimedDate) {
+        UUID imageId = UUID.randomUUID();
+        jdbc.update("""
+                INSERT INTO image_file (image_id, object_key, differentiator_name, upload_status, created_by,
+                                        rendition_status, rendition_attempts, rendition_claimed_date)
+                VALUES (?, ?, 'products', 'UPLOAD_COMPLETE', ?, 'PROCESSING', ?, ?)
+                """, imageId, "products/" + imageId, UUID.randomUUID(), attempts, Timestamp.from(claimedDate));
+        return imageId;
+    }
+
+    private String renditionStatus(UUID imageId) {
+        return jdbc.queryForObject("SELECT rendition_status FROM image_file WHERE image_id = ?", String.class, imageId);
+    }
+}
@@ -0,0 +1,126 @@
+package com.donkie.quickcart.uploads.infra.reconciliation;
+
+import com.donkie.quickcart.uploads.domain.model.ImageFile;
+import com.donkie.quickcart.uploads.infra.integration.config.AwsProperties;
+import com.donkie.quickcart.uploads.infra.integration.s3.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CommonPrefix;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Originals share their prefix with the {@code <key>/w<width>} renditions, a listing must still settle every
+ * upload without falling back to HEAD.
+ */
+class UploadReconcilerTests {
+    private static final String DIFFERENTIATOR = "products";
+    private static final int PAGE_SIZE = 1000;
+    private static final List<Integer> RENDITION_WIDTHS = List.of(128, 512, 1024);
+
+    private final NavigableSet<String> bucket = new TreeSet<>();
+    private final S3Client s3 = mock(S3Client.class);
+    private final ReconciliationProperties properties = new ReconciliationProperties();
+    private UploadReconciler uploadReconciler;
+
+    @BeforeEach
+    void setUp() {
+        when(s3.listObjectsV2(any(ListObjectsV2Request.class))).thenAnswer(call -> list(call.getArgument(0)));
+
+        var awsProperties = new AwsProperties();
+        awsProperties.setS3(new AwsProperties.S3());
+        awsProperties.getS3().setBucket("quickcart-test");
+        var s3Service = new S3Service(mock(S3Presigner.class), s3, awsProperties);
+
+        properties.setMaxListedKeys(PAGE_SIZE);
+        uploadReconciler = new UploadReconciler(s3Service, properties);
+    }
+
+    @Test
+    void renditionKeysDoNotPushUploadsToHead() {
+        // 300 originals and 900 renditions, more keys than max-listed-keys but fewer originals
+        List<ImageFile> uploaded = uploads(300);
+        uploaded.forEach(file -> storeWithRenditions(file.getObjectKey()));
+        List<ImageFile> missing = uploads(5);
+
+        List<ImageFile> pending = new ArrayList<>(uploaded);
+        pending.addAll(missing);
+        var outcome = uploadReconciler.reconcile(pending);
+
+        assertThat(outcome.present()).containsExactlyInAnyOrderElementsOf(uploaded);
+        assertThat(outcome.absent()).containsExactlyInAnyOrderElementsOf(missing);
+        verify(s3, never()).headObject(any(HeadObjectRequest.class));
+    }
+
+    // ===================== Private Helpers =====================
+
+    private static List<ImageFile> uploads(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> ImageFile.create("image/png", DIFFERENTIATOR, Duration.ofMinutes(10)))
+                .toList();
+    }
+
+    private void storeWithRenditions(String key) {
+        bucket.add(key);
+        RENDITION_WIDTHS.forEach(width -> bucket.add(key + "/w" + width));
+    }
+
+    /**
+     * ListObjectsV2 over the in-memory bucket: keys in order, rolled up at the delimiter, pages of
+     * {@value #PAGE_SIZE} entries, the continuation token being the last key or prefix returned.
+     */
+    private ListObjectsV2Response list(ListObjectsV2Request request) {
+        String prefix = request.prefix();
+        String delimiter = request.delimiter();
+        String after = request.continuationToken();
+
+        List<S3Object> contents = new ArrayList<>();
+        List<CommonPrefix> prefixes = new ArrayList<>();
+        String last = null;
+        boolean truncated = false;
+
+        for (String key : after == null ? bucket.tailSet(prefix, true) : bucket.tailSet(after, false)) {
+            if (!key.startsWith(prefix)) break;
+            if (after != null && after.endsWith("/") && key.startsWith(after)) continue; // rest of a rolled up prefix
+            if (contents.size() + prefixes.size() == PAGE_SIZE) {
+                truncated = true;
+                break;
+            }
+            int cut = delimiter == null ? -1 : key.indexOf(delimiter, prefix.length());
+            if (cut < 0) {
+                contents.add(S3Object.builder().key(key).build());
+                last = key;
+            } else {
+                String rolledUp = key.substring(0, cut + 1);
+                if (rolledUp.equals(last)) continue;
+                prefixes.add(CommonPrefix.builder().prefix(rolledUp).build());
+                last = rolledUp;
+            }
+        }
+
+        return ListObjectsV2Response.builder()
+                .contents(contents)
+                .commonPrefixes(prefixes)
+                .isTruncated(truncated)
+                .nextContinuationToken(truncated ? last : null)
+                .build();
+    }
+}